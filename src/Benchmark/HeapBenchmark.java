@@ -0,0 +1,178 @@
+package Benchmark;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import DataStructure.DaryHeap;
+import DataStructure.Heap;
+import DataStructure.IntHeap;
+
+/** Benchmark of the binary Heap against IntHeap and DaryHeap (arity 4 and 8) on 3 mixes:
+ *  insert-heavy (3 inserts per poll from an empty heap), poll-heavy (drain a full heap) and
+ *  steady (one poll and one insert per operation on a full heap). One operation is the whole mix on n values.
+ *
+ *  Usage: HeapBenchmark [maxSize] [millisPerCase] [heap...]
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class HeapBenchmark {
+	private static final int MIN_ITERATIONS = 5;
+	
+	//Used to keep the JIT from dropping work whose result is never read.
+	private static int sink;
+	
+	/**
+	 * Min heap under test.
+	 */
+	private interface MinHeap{
+		void insert(int value);
+		int poll();
+	}
+	
+	/**
+	 * Create an empty heap.
+	 */
+	private interface Factory{
+		MinHeap create();
+	}
+	
+	/**
+	 * Return all benchmarked heaps by name, baseline first.
+	 *
+	 * @return the heap factories
+	 */
+	private static Map<String, Factory> heaps(){
+		Map<String, Factory> result = new LinkedHashMap<String, Factory>();
+		result.put("Heap", new Factory(){
+			@Override
+			public MinHeap create(){
+				final Heap heap = new Heap();
+				return new MinHeap(){
+					@Override
+					public void insert(int value){
+						heap.insert(value);
+					}
+					
+					@Override
+					public int poll(){
+						heap.removeMin();
+						return 0;
+					}
+				};
+			}
+		});
+		result.put("IntHeap", new Factory(){
+			@Override
+			public MinHeap create(){
+				final IntHeap heap = new IntHeap();
+				return new MinHeap(){
+					@Override
+					public void insert(int value){
+						heap.insert(value);
+					}
+					
+					@Override
+					public int poll(){
+						return heap.poll();
+					}
+				};
+			}
+		});
+		for(final int arity : new int[]{4, 8}){
+			result.put("DaryHeap" + arity, new Factory(){
+				@Override
+				public MinHeap create(){
+					final DaryHeap heap = new DaryHeap(arity);
+					return new MinHeap(){
+						@Override
+						public void insert(int value){
+							heap.insert(value);
+						}
+						
+						@Override
+						public int poll(){
+							return heap.poll();
+						}
+					};
+				}
+			});
+		}
+		return result;
+	}
+	
+	/**
+	 * Run one mix until both the time budget and the minimum iteration count are reached,
+	 * once for warm-up and once for measurement. Filling the heap before poll-heavy and steady is not measured.
+	 *
+	 * @param factory the heap factory
+	 * @param mix "insert-heavy", "poll-heavy" or "steady"
+	 * @param values the values to insert
+	 * @param millis time budget of each phase
+	 * @return the measurement
+	 */
+	private static Measurement run(Factory factory, String mix, int[] values, long millis){
+		int n = values.length;
+		Measurement measurement = new Measurement();
+		for(int phase = 0; phase < 2; phase++){
+			measurement.reset();
+			long budget = millis * 1000000L;
+			while(measurement.count() < MIN_ITERATIONS || measurement.totalNanos() < budget){
+				MinHeap heap = factory.create();
+				if(mix.equals("insert-heavy")){
+					measurement.start();
+					for(int i = 0; i + 3 <= n; i += 3){
+						heap.insert(values[i]);
+						heap.insert(values[i + 1]);
+						heap.insert(values[i + 2]);
+						sink += heap.poll();
+					}
+					measurement.stop();
+				}
+				else
+				{
+					for(int i = 0; i < n; i++)
+						heap.insert(values[i]);
+					measurement.start();
+					if(mix.equals("poll-heavy")){
+						for(int i = 0; i < n; i++)
+							sink += heap.poll();
+					}
+					else
+					{
+						for(int i = 0; i < n; i++){
+							sink += heap.poll();
+							heap.insert(values[n - 1 - i]);
+						}
+					}
+					measurement.stop();
+				}
+			}
+		}
+		return measurement;
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 20;
+		long millis = args.length > 1 ? Long.parseLong(args[1]) : 500;
+		Map<String, Factory> heaps = heaps();
+		if(args.length > 2)
+			heaps.keySet().retainAll(Arrays.asList(args).subList(2, args.length));
+		
+		Random rndGen = new Random(42);
+		for(int size = 1 << 10; size <= maxSize; size <<= 5){
+			int[] values = new int[size];
+			InputDistribution.RANDOM.fill(values, rndGen);
+			for(String mix : new String[]{"insert-heavy", "poll-heavy", "steady"}){
+				for(Map.Entry<String, Factory> entry : heaps.entrySet()){
+					String label = entry.getKey() + " " + mix + " n=" + size;
+					System.out.println(run(entry.getValue(), mix, values, millis).report(label));
+				}
+			}
+		}
+		System.out.println("checksum " + sink);
+	}
+}
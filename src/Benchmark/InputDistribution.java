@@ -0,0 +1,59 @@
+package Benchmark;
+import java.util.Random;
+
+/** Input shapes used by the benchmarks.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public enum InputDistribution {
+	/** Uniform random ints. */
+	RANDOM,
+	/** Already ascending. */
+	SORTED,
+	/** Descending. */
+	REVERSE,
+	/** Random values from a set of 16 distinct values. */
+	FEW_UNIQUE,
+	/** Ascending runs of 1000 elements that restart from 0. */
+	SAWTOOTH,
+	/** Ascending first half, descending second half. */
+	ORGAN_PIPE;
+	
+	/**
+	 * Fill the array with this distribution.
+	 *
+	 * @param array the array to fill
+	 * @param rndGen random generator for the random shapes
+	 */
+	public void fill(int[] array, Random rndGen){
+		int n = array.length;
+		switch(this){
+		case RANDOM:
+			for(int i = 0; i < n; i++)
+				array[i] = rndGen.nextInt();
+			break;
+		case SORTED:
+			for(int i = 0; i < n; i++)
+				array[i] = i;
+			break;
+		case REVERSE:
+			for(int i = 0; i < n; i++)
+				array[i] = n - i;
+			break;
+		case FEW_UNIQUE:
+			for(int i = 0; i < n; i++)
+				array[i] = rndGen.nextInt(16);
+			break;
+		case SAWTOOTH:
+			for(int i = 0; i < n; i++)
+				array[i] = i % 1000;
+			break;
+		case ORGAN_PIPE:
+			for(int i = 0; i < n; i++)
+				array[i] = i < n / 2 ? i : n - i;
+			break;
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package Benchmark;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/** Collects the time and heap allocation of repeated operations on the current thread,
+ *  and reports throughput, allocation per operation and time percentiles.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class Measurement {
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+	
+	private long[] samples = new long[64];
+	private int count = 0;
+	private long totalNanos = 0;
+	private long totalBytes = 0;
+	private long startNanos;
+	private long startBytes;
+	
+	/**
+	 * Start timing one operation.
+	 */
+	public void start(){
+		startBytes = allocatedBytes();
+		startNanos = System.nanoTime();
+	}
+	
+	/**
+	 * Stop timing the current operation and record it.
+	 */
+	public void stop(){
+		long nanos = System.nanoTime() - startNanos;
+		totalBytes += allocatedBytes() - startBytes;
+		totalNanos += nanos;
+		if(count == samples.length)
+			samples = Arrays.copyOf(samples, count * 2);
+		samples[count++] = nanos;
+	}
+	
+	/**
+	 * Return number of recorded operations.
+	 *
+	 * @return the count
+	 */
+	public int count(){
+		return count;
+	}
+	
+	/**
+	 * Return total time of the recorded operations.
+	 *
+	 * @return time in nanoseconds
+	 */
+	public long totalNanos(){
+		return totalNanos;
+	}
+	
+	/**
+	 * Forget all recorded operations, for example after warm-up.
+	 */
+	public void reset(){
+		count = 0;
+		totalNanos = 0;
+		totalBytes = 0;
+	}
+	
+	/**
+	 * Return the time below which the given fraction of operations finished.
+	 *
+	 * @param fraction between 0 and 1
+	 * @return time in nanoseconds
+	 */
+	public long percentile(double fraction){
+		if(count == 0)
+			return 0;
+		long[] sorted = Arrays.copyOf(samples, count);
+		Arrays.sort(sorted);
+		int index = (int)Math.ceil(fraction * count) - 1;
+		return sorted[Math.max(0, Math.min(count - 1, index))];
+	}
+	
+	/**
+	 * Format one result line: operations per second, bytes allocated per operation and p50/p90/p99/max in microseconds.
+	 *
+	 * @param label name of the measured case
+	 * @return the result line
+	 */
+	public String report(String label){
+		double opsPerSecond = totalNanos == 0 ? 0 : count * 1e9 / totalNanos;
+		long bytesPerOp = count == 0 ? 0 : totalBytes / count;
+		return String.format("%-48s %12.1f ops/s %14d B/op   p50 %10.1f  p90 %10.1f  p99 %10.1f  max %10.1f us",
+				label, opsPerSecond, bytesPerOp, percentile(0.5) / 1e3, percentile(0.9) / 1e3,
+				percentile(0.99) / 1e3, percentile(1.0) / 1e3);
+	}
+	
+	/**
+	 * Bytes allocated so far by the current thread, or 0 when the JVM cannot tell.
+	 */
+	private static long allocatedBytes(){
+		if(THREADS instanceof com.sun.management.ThreadMXBean)
+			return ((com.sun.management.ThreadMXBean)THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+		return 0;
+	}
+}
@@ -0,0 +1,105 @@
+package Benchmark;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import DataStructure.MultiQueue;
+
+/** Multithreaded benchmark of MultiQueue in relaxed mode (queuesPerThread * threads heaps) against strict mode
+ *  (one heap behind one lock). The queue is filled with n values, then every thread runs opsPerThread steady
+ *  operations: one poll followed by one insert. One measured operation is a whole round of all threads, and
+ *  the last column is the total polls and inserts per second over the round.
+ *
+ *  Usage: MultiQueueBenchmark [maxThreads] [queuesPerThread] [n] [opsPerThread] [millisPerCase]
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class MultiQueueBenchmark {
+	private static final int MIN_ITERATIONS = 5;
+	
+	//Used to keep the JIT from dropping work whose result is never read.
+	private static volatile int sink;
+	
+	/**
+	 * Run rounds until both the time budget and the minimum iteration count are reached,
+	 * once for warm-up and once for measurement. Filling the queue is not measured.
+	 *
+	 * @param pool the worker threads
+	 * @param threads number of threads of a round
+	 * @param queues number of heaps of the queue, 1 for strict
+	 * @param values the values to fill the queue with and to insert
+	 * @param opsPerThread steady operations per thread and round
+	 * @param millis time budget of each phase
+	 * @return the measurement
+	 */
+	private static Measurement run(ExecutorService pool, int threads, int queues, final int[] values,
+			final int opsPerThread, long millis) throws InterruptedException, ExecutionException{
+		Measurement measurement = new Measurement();
+		for(int phase = 0; phase < 2; phase++){
+			measurement.reset();
+			long budget = millis * 1000000L;
+			while(measurement.count() < MIN_ITERATIONS || measurement.totalNanos() < budget){
+				final MultiQueue queue = new MultiQueue(queues);
+				for(int value : values)
+					queue.insert(value);
+				List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+				for(int t = 0; t < threads; t++){
+					final int first = t * opsPerThread;
+					tasks.add(new Callable<Integer>(){
+						@Override
+						public Integer call(){
+							int sum = 0;
+							for(int i = 0; i < opsPerThread; i++){
+								sum += queue.pollOrElse(0);
+								queue.insert(values[(first + i) % values.length]);
+							}
+							return sum;
+						}
+					});
+				}
+				measurement.start();
+				List<Future<Integer>> results = pool.invokeAll(tasks);
+				measurement.stop();
+				for(Future<Integer> result : results)
+					sink += result.get();
+			}
+		}
+		return measurement;
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args) throws InterruptedException, ExecutionException{
+		int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : 2 * Runtime.getRuntime().availableProcessors();
+		int queuesPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+		int n = args.length > 2 ? Integer.parseInt(args[2]) : 1 << 16;
+		int opsPerThread = args.length > 3 ? Integer.parseInt(args[3]) : 1 << 16;
+		long millis = args.length > 4 ? Long.parseLong(args[4]) : 500;
+		
+		int[] values = new int[n];
+		InputDistribution.RANDOM.fill(values, new Random(42));
+		ExecutorService pool = Executors.newFixedThreadPool(maxThreads);
+		try{
+			for(int threads = 1; threads <= maxThreads; threads <<= 1){
+				for(boolean strict : new boolean[]{false, true}){
+					int queues = strict ? 1 : queuesPerThread * threads;
+					String label = (strict ? "strict" : "relaxed c=" + queuesPerThread) + " threads=" + threads + " n=" + n;
+					Measurement measurement = run(pool, threads, queues, values, opsPerThread, millis);
+					double opsPerSecond = measurement.totalNanos() == 0 ? 0
+							: 2.0 * threads * opsPerThread * measurement.count() * 1e9 / measurement.totalNanos();
+					System.out.println(measurement.report(label) + String.format("  %8.2f Mops/s", opsPerSecond / 1e6));
+				}
+			}
+		}
+		finally{
+			pool.shutdown();
+		}
+		System.out.println("checksum " + sink);
+	}
+}
@@ -0,0 +1,85 @@
+package Benchmark;
+import java.util.Random;
+
+import Sorting.InsertionSort;
+import Sorting.SortingNetworks;
+
+/** Benchmark of the sorting networks against insertion sort on the small sizes where quick sort and merge sort
+ *  use them, from 2 to SortingNetworks.MAX_SIZE elements. Each operation sorts a batch of many short segments
+ *  of random values, so branch mispredictions of insertion sort show up as they do at the leaves of a real sort.
+ *
+ *  Usage: NetworkBenchmark [millisPerCase] [segmentsPerBatch]
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class NetworkBenchmark {
+	private static final int MIN_ITERATIONS = 5;
+	
+	//Used to keep the JIT from dropping sorts whose result is never read.
+	private static int sink;
+	
+	/**
+	 * Small sort under test.
+	 */
+	private interface Kernel{
+		void sort(int[] array, int offset, int length);
+	}
+	
+	/**
+	 * Run one case: sort a fresh copy of the batch, segment by segment, until both the time budget
+	 * and the minimum iteration count are reached, once for warm-up and once for measurement.
+	 *
+	 * @param kernel the small sort
+	 * @param input the batch of segments, never modified
+	 * @param segmentLength length of each segment
+	 * @param millis time budget of each phase
+	 * @return the measurement
+	 */
+	private static Measurement run(Kernel kernel, int[] input, int segmentLength, long millis){
+		int[] work = new int[input.length];
+		Measurement measurement = new Measurement();
+		for(int phase = 0; phase < 2; phase++){
+			measurement.reset();
+			long budget = millis * 1000000L;
+			while(measurement.count() < MIN_ITERATIONS || measurement.totalNanos() < budget){
+				System.arraycopy(input, 0, work, 0, input.length);
+				measurement.start();
+				for(int offset = 0; offset < work.length; offset += segmentLength)
+					kernel.sort(work, offset, segmentLength);
+				measurement.stop();
+				sink += work[0] ^ work[work.length - 1];
+			}
+		}
+		return measurement;
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		long millis = args.length > 0 ? Long.parseLong(args[0]) : 300;
+		int segments = args.length > 1 ? Integer.parseInt(args[1]) : 1 << 12;
+		final InsertionSort insertionSort = new InsertionSort();
+		Kernel network = new Kernel(){
+			@Override
+			public void sort(int[] array, int offset, int length){
+				SortingNetworks.sort(array, offset, length);
+			}
+		};
+		Kernel insertion = new Kernel(){
+			@Override
+			public void sort(int[] array, int offset, int length){
+				insertionSort.sort(array, offset, length);
+			}
+		};
+		
+		Random rndGen = new Random(42);
+		for(int length = 2; length <= SortingNetworks.MAX_SIZE; length++){
+			int[] input = new int[length * segments];
+			InputDistribution.RANDOM.fill(input, rndGen);
+			System.out.println(run(network, input, length, millis).report("SortingNetworks n=" + length + " x" + segments));
+			System.out.println(run(insertion, input, length, millis).report("InsertionSort n=" + length + " x" + segments));
+		}
+		System.out.println("checksum " + sink);
+	}
+}
@@ -0,0 +1,111 @@
+package Benchmark;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import Sorting.CountingSort;
+import Sorting.InsertionSort;
+import Sorting.MergeSort;
+import Sorting.QuickSort;
+import Sorting.RadixSort;
+import Sorting.SelectionSort;
+import Sorting.SortDispatcher;
+import Sorting.TimSort;
+import Sorting.Sorting;
+
+/** Benchmark of every Sorting algorithm against java.util.Arrays.sort, over sizes from 10 up to 10^8
+ *  and every InputDistribution. For each case it prints throughput, bytes allocated per sort and
+ *  time percentiles, so two builds can be compared line by line before a rollout.
+ *
+ *  Usage: SortBenchmark [maxSize] [millisPerCase] [algorithm...]
+ *  Run with a fixed heap (-Xms = -Xmx) large enough for 2 arrays of maxSize ints.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class SortBenchmark {
+	/** Quadratic sorts are skipped above this size. */
+	private static final int QUADRATIC_LIMIT = 100000;
+	private static final int MIN_ITERATIONS = 5;
+	
+	//Used to keep the JIT from dropping sorts whose result is never read.
+	private static int sink;
+	
+	/**
+	 * Return all benchmarked algorithms by name, baseline first.
+	 *
+	 * @return the algorithms
+	 */
+	static Map<String, Sorting> algorithms(){
+		Map<String, Sorting> result = new LinkedHashMap<String, Sorting>();
+		result.put("Arrays.sort", new Sorting(){
+			@Override
+			public void sort(int[] array, int offset, int length){
+				Arrays.sort(array, offset, offset + length);
+			}
+		});
+		result.put("MergeSort", new MergeSort());
+		result.put("QuickSort", new QuickSort());
+		result.put("RadixSort", new RadixSort());
+		result.put("CountingSort", new CountingSort());
+		result.put("TimSort", new TimSort());
+		result.put("SortDispatcher", new SortDispatcher());
+		result.put("InsertionSort", new InsertionSort());
+		result.put("SelectionSort", new SelectionSort());
+		return result;
+	}
+	
+	/**
+	 * Run one case: sort a fresh copy of input with the algorithm until both the time budget
+	 * and the minimum iteration count are reached, once for warm-up and once for measurement.
+	 *
+	 * @param algorithm the algorithm
+	 * @param input the input, never modified
+	 * @param millis time budget of each phase
+	 * @return the measurement
+	 */
+	static Measurement run(Sorting algorithm, int[] input, long millis){
+		int[] work = new int[input.length];
+		Measurement measurement = new Measurement();
+		for(int phase = 0; phase < 2; phase++){
+			measurement.reset();
+			long budget = millis * 1000000L;
+			while(measurement.count() < MIN_ITERATIONS || measurement.totalNanos() < budget){
+				System.arraycopy(input, 0, work, 0, input.length);
+				measurement.start();
+				algorithm.sort(work);
+				measurement.stop();
+				sink += work[0] ^ work[work.length - 1];
+			}
+		}
+		return measurement;
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		int maxSize = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		long millis = args.length > 1 ? Long.parseLong(args[1]) : 500;
+		Map<String, Sorting> algorithms = algorithms();
+		if(args.length > 2)
+			algorithms.keySet().retainAll(Arrays.asList(args).subList(2, args.length));
+		
+		Random rndGen = new Random(42);
+		for(long size = 10; size <= maxSize; size *= 10){
+			int[] input = new int[(int)size];
+			for(InputDistribution distribution : InputDistribution.values()){
+				distribution.fill(input, rndGen);
+				for(Map.Entry<String, Sorting> entry : algorithms.entrySet()){
+					String label = entry.getKey() + " " + distribution + " n=" + size;
+					if(size > QUADRATIC_LIMIT && (entry.getValue() instanceof InsertionSort || entry.getValue() instanceof SelectionSort)){
+						System.out.println(String.format("%-48s skipped (quadratic)", label));
+						continue;
+					}
+					System.out.println(run(entry.getValue(), input, millis).report(label));
+				}
+			}
+		}
+		System.out.println("checksum " + sink);
+	}
+}
@@ -0,0 +1,200 @@
+package DataStructure;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/** Min heap of ints where each node has d children (d = 2, 4, 8 or 16, chosen at construction) instead of 2.
+ *  A larger arity makes the tree shallower, so poll visits fewer levels, and all children of a node are
+ *  contiguous: the root is stored at index d - 1, so every group of siblings starts at a multiple of d and with
+ *  d = 16 one group is exactly one 64-byte line of the array (relative to the start of the array data).
+ *  The smallest child is picked with a loop whose updates are conditional moves rather than branches.
+ *  Storage is a growable int[] like IntHeap.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ */
+public class DaryHeap {
+	private static final int DEFAULT_CAPACITY = 16;
+	
+	private final int arity;
+	private final int shift;
+	//Index of the root: logical node i is stored at heap[i + offset].
+	private final int offset;
+	private int[] heap;
+	private int size = 0;
+	
+	/**
+	 * Instantiates an empty heap with the given arity.
+	 *
+	 * @param arity number of children per node: 2, 4, 8 or 16
+	 */
+	public DaryHeap(int arity){
+		this(arity, DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Instantiates an empty heap with the given arity and room for initialCapacity elements before it grows.
+	 *
+	 * @param arity number of children per node: 2, 4, 8 or 16
+	 * @param initialCapacity the initial capacity
+	 */
+	public DaryHeap(int arity, int initialCapacity){
+		if(arity < 2 || arity > 16 || Integer.bitCount(arity) != 1)
+			throw new IllegalArgumentException("arity must be 2, 4, 8 or 16: " + arity);
+		if(initialCapacity < 0)
+			throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+		this.arity = arity;
+		this.shift = Integer.numberOfTrailingZeros(arity);
+		this.offset = arity - 1;
+		heap = new int[offset + initialCapacity];
+	}
+	
+	/**
+	 * Return the number of children per node.
+	 *
+	 * @return the arity
+	 */
+	public int arity(){
+		return arity;
+	}
+	
+	/**
+	 * Insert new element to our heap.
+	 *
+	 * @param value the value
+	 */
+	public void insert(int value){
+		if(offset + size == heap.length)
+			heap = Arrays.copyOf(heap, heap.length + Math.max(DEFAULT_CAPACITY, heap.length >> 1));
+		upHeapBubbling(size++, value);
+	}
+	
+	/**
+	 * Return the smallest element without removing it.
+	 *
+	 * @return the smallest element
+	 * @throws NoSuchElementException if the heap is empty
+	 */
+	public int peek(){
+		if(size == 0)
+			throw new NoSuchElementException("heap is empty");
+		return heap[offset];
+	}
+	
+	/**
+	 * Remove and return the smallest element.
+	 *
+	 * @return the smallest element
+	 * @throws NoSuchElementException if the heap is empty
+	 */
+	public int poll(){
+		if(size == 0)
+			throw new NoSuchElementException("heap is empty");
+		int min = heap[offset];
+		int last = heap[offset + --size];
+		if(size > 0)
+			downHeapBubbling(0, last);
+		return min;
+	}
+	
+	/**
+	 * Return the number of elements.
+	 *
+	 * @return the size
+	 */
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Check if the heap is empty.
+	 *
+	 * @return true if it is empty, false otherwise.
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	
+	/**
+	 * Remove all elements. The capacity is kept.
+	 */
+	public void clear(){
+		size = 0;
+	}
+	
+	/**
+	 * Up heap bubbling of value from the hole at logical node nodeIndex.
+	 */
+	private void upHeapBubbling(int nodeIndex, int value){
+		while(nodeIndex > 0){
+			int parentIndex = (nodeIndex - 1) >>> shift;
+			int parentValue = heap[offset + parentIndex];
+			if(value >= parentValue)
+				break;
+			heap[offset + nodeIndex] = parentValue;
+			nodeIndex = parentIndex;
+		}
+		heap[offset + nodeIndex] = value;
+	}
+	
+	/**
+	 * Down heap bubbling of value from the hole at logical node nodeIndex.
+	 * Children of node i are the logical nodes d * i + 1 to d * i + d, stored from heap[d * (i + 1)].
+	 */
+	private void downHeapBubbling(int nodeIndex, int value){
+		int end = offset + size;
+		while(true){
+			int first = (nodeIndex + 1) << shift;
+			if(first >= end)
+				break;
+			int last = Math.min(first + arity, end);
+			
+			//Smallest child, with the selects written so the JIT can use conditional moves.
+			int best = first;
+			int bestValue = heap[first];
+			for(int child = first + 1; child < last; child++){
+				int childValue = heap[child];
+				boolean smaller = childValue < bestValue;
+				best = smaller ? child : best;
+				bestValue = smaller ? childValue : bestValue;
+			}
+			if(value <= bestValue)
+				break;
+			heap[offset + nodeIndex] = bestValue;
+			nodeIndex = best - offset;
+		}
+		heap[offset + nodeIndex] = value;
+	}
+	
+	/**
+	 * Prints the heap for testing purpose.
+	 */
+	public void print(){
+		System.out.print("Our heap is: ");
+		for(int i = 0; i < size; i++){
+			System.out.print(heap[offset + i] + " ");
+		}
+		System.out.println();
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		DaryHeap newHeap = new DaryHeap(4);
+		newHeap.insert(6);
+		newHeap.insert(7);
+		newHeap.insert(8);
+		newHeap.insert(15);
+		newHeap.insert(11);
+		newHeap.insert(3);
+		newHeap.insert(5);
+		newHeap.print();
+		
+		System.out.println("poll: " + newHeap.poll());
+		newHeap.print();
+		
+		System.out.println("poll: " + newHeap.poll());
+		newHeap.print();
+		
+		newHeap.insert(2);
+		newHeap.print();
+	}
+}
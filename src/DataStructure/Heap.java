@@ -13,6 +13,18 @@ public class Heap {
 		heap = new ArrayList<Integer>();
 	}
 	
+	/**
+	 * Instantiates a heap holding the values, heapified bottom-up in O(n) instead of n inserts.
+	 *
+	 * @param values the values
+	 */
+	public Heap(int[] values){
+		heap = new ArrayList<Integer>(values.length);
+		for(int value : values)
+			heap.add(value);
+		heapify();
+	}
+	
 	/**
 	 * Insert new element to our heap.
 	 * Up-Heap Bubbling when new added element violate heap-order property.
@@ -25,6 +37,41 @@ public class Heap {
 		upHeapBubbling(lastNodeIndex);
 	}
 	
+	/**
+	 * Insert length values starting at offset. A large batch is appended and the whole heap rebuilt in O(n),
+	 * a small one is inserted one by one.
+	 *
+	 * @param values the values
+	 * @param offset index of the first value
+	 * @param length number of values
+	 */
+	public void insertAll(int[] values, int offset, int length){
+		if(offset < 0 || length < 0 || offset > values.length - length)
+			throw new ArrayIndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + values.length);
+		int newSize = heap.size() + length;
+		heap.ensureCapacity(newSize);
+		//One by one costs about length * log2(newSize) swaps, the rebuild about newSize.
+		if((long)length * (32 - Integer.numberOfLeadingZeros(newSize)) >= newSize){
+			for(int i = offset; i < offset + length; i++)
+				heap.add(values[i]);
+			heapify();
+		}
+		else
+		{
+			for(int i = offset; i < offset + length; i++)
+				insert(values[i]);
+		}
+	}
+	
+	/**
+	 * Heapify bottom-up: down-heap bubbling of every parent, last one first.
+	 * Most nodes are near the leaves and move little, so this is O(n).
+	 */
+	private void heapify(){
+		for(int i = heap.size() / 2 - 1; i >= 0; i--)
+			downHeapBubbling(i);
+	}
+	
 	/**
 	 * Gets the parent index of the input Index.
 	 *
@@ -76,6 +123,24 @@ public class Heap {
 		downHeapBubbling(0);
 	}
 	
+	/**
+	 * Remove the smallest keys, up to max of them, and write them in ascending order to out from index 0.
+	 *
+	 * @param out the output, with at least max elements
+	 * @param max most keys to remove
+	 * @return number of keys removed
+	 */
+	public int drainTo(int[] out, int max){
+		if(max < 0 || max > out.length)
+			throw new IllegalArgumentException("max must be from 0 to " + out.length + ": " + max);
+		int count = Math.min(max, heap.size());
+		for(int i = 0; i < count; i++){
+			out[i] = heap.get(0);
+			removeMin();
+		}
+		return count;
+	}
+	
 	/**
 	 * Down heap bubbling.
 	 * Swap the parent node with its smallest child. Down-heap bubbling stop when parent and its children no longer violate heap-order property.
@@ -117,7 +182,9 @@ public class Heap {
 			rightChildValue = heap.get(rightChildIndex);
 		}
 		//Compare value of the left and right child and return smaller child's index.
-		return (leftChildValue < rightChildValue) ? leftChildIndex : rightChildIndex;
+		//Ties go to the left child: with no right child and a left child equal to Integer.MAX_VALUE,
+		//the missing right child must not be chosen.
+		return (leftChildValue <= rightChildValue) ? leftChildIndex : rightChildIndex;
 	}
 	
 	/**
@@ -154,5 +221,16 @@ public class Heap {
 		
 		newHeap.insert(2);
 		newHeap.print();
+		
+		//bulk load then drain
+		newHeap = new Heap(new int[]{9, 4, 12, 1, 7});
+		newHeap.insertAll(new int[]{10, 3, 8}, 0, 3);
+		newHeap.print();
+		int[] drained = new int[4];
+		int count = newHeap.drainTo(drained, drained.length);
+		System.out.print("Drained:");
+		for(int i = 0; i < count; i++)
+			System.out.print(" " + drained[i]);
+		System.out.println();
 	}
 }
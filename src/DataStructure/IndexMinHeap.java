@@ -0,0 +1,278 @@
+package DataStructure;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/** Indexed min heap: elements are int handles from 0 to capacity - 1, each queued at most once with a long key.
+ *  Unlike Heap, the key of a queued handle can be changed, which is what Dijkstra's algorithm needs.
+ *  The heap order is kept in 2 parallel arrays (handle and key at each heap position), and position[handle]
+ *  tells where a handle is, or -1 when it is not queued. insert, decreaseKey, remove and poll are O(log n),
+ *  contains and key are O(1). clear only resets the handles still queued, so reusing the heap for another
+ *  query costs nothing for the handles the previous query never touched.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ */
+public class IndexMinHeap implements IndexPriorityQueue {
+	private final int[] heap;
+	private final long[] keys;
+	private final int[] position;
+	private int size = 0;
+	
+	/**
+	 * Instantiates an empty heap for handles 0 to capacity - 1.
+	 *
+	 * @param capacity the number of handles
+	 */
+	public IndexMinHeap(int capacity){
+		if(capacity < 0)
+			throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+		heap = new int[capacity];
+		keys = new long[capacity];
+		position = new int[capacity];
+		Arrays.fill(position, -1);
+	}
+	
+	/**
+	 * Return the number of handles.
+	 *
+	 * @return the capacity
+	 */
+	@Override
+	public int capacity(){
+		return position.length;
+	}
+	
+	/**
+	 * Queue a handle with its key.
+	 *
+	 * @param handle the handle
+	 * @param key the key
+	 * @throws IllegalArgumentException if the handle is already queued
+	 */
+	@Override
+	public void insert(int handle, long key){
+		if(contains(handle))
+			throw new IllegalArgumentException("handle already queued: " + handle);
+		upHeapBubbling(size++, handle, key);
+	}
+	
+	/**
+	 * Check if a handle is queued.
+	 *
+	 * @param handle the handle
+	 * @return true if it is queued, false otherwise.
+	 */
+	@Override
+	public boolean contains(int handle){
+		checkHandle(handle);
+		return position[handle] >= 0;
+	}
+	
+	/**
+	 * Return the key of a queued handle.
+	 *
+	 * @param handle the handle
+	 * @return the key
+	 * @throws NoSuchElementException if the handle is not queued
+	 */
+	@Override
+	public long key(int handle){
+		return keys[positionOf(handle)];
+	}
+	
+	/**
+	 * Lower the key of a queued handle.
+	 *
+	 * @param handle the handle
+	 * @param key the new key, not larger than the current one
+	 * @throws NoSuchElementException if the handle is not queued
+	 * @throws IllegalArgumentException if key is larger than the current key
+	 */
+	@Override
+	public void decreaseKey(int handle, long key){
+		int nodeIndex = positionOf(handle);
+		if(key > keys[nodeIndex])
+			throw new IllegalArgumentException("key " + key + " is larger than the current key " + keys[nodeIndex]);
+		upHeapBubbling(nodeIndex, handle, key);
+	}
+	
+	/**
+	 * Remove a queued handle.
+	 *
+	 * @param handle the handle
+	 * @throws NoSuchElementException if the handle is not queued
+	 */
+	@Override
+	public void remove(int handle){
+		int nodeIndex = positionOf(handle);
+		position[handle] = -1;
+		if(nodeIndex == --size)
+			return;
+		//Fill the hole with the last element, which may have to move up or down.
+		int lastHandle = heap[size];
+		long lastKey = keys[size];
+		if(nodeIndex > 0 && lastKey < keys[(nodeIndex - 1) >>> 1])
+			upHeapBubbling(nodeIndex, lastHandle, lastKey);
+		else
+			downHeapBubbling(nodeIndex, lastHandle, lastKey);
+	}
+	
+	/**
+	 * Return the handle with the smallest key without removing it.
+	 *
+	 * @return the handle
+	 * @throws NoSuchElementException if the heap is empty
+	 */
+	public int peek(){
+		if(size == 0)
+			throw new NoSuchElementException("heap is empty");
+		return heap[0];
+	}
+	
+	/**
+	 * Return the smallest key.
+	 *
+	 * @return the key
+	 * @throws NoSuchElementException if the heap is empty
+	 */
+	public long peekKey(){
+		if(size == 0)
+			throw new NoSuchElementException("heap is empty");
+		return keys[0];
+	}
+	
+	/**
+	 * Remove and return the handle with the smallest key.
+	 *
+	 * @return the handle
+	 * @throws NoSuchElementException if the heap is empty
+	 */
+	@Override
+	public int poll(){
+		if(size == 0)
+			throw new NoSuchElementException("heap is empty");
+		int min = heap[0];
+		position[min] = -1;
+		if(--size > 0)
+			downHeapBubbling(0, heap[size], keys[size]);
+		return min;
+	}
+	
+	/**
+	 * Return the number of queued handles.
+	 *
+	 * @return the size
+	 */
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Check if the heap is empty.
+	 *
+	 * @return true if it is empty, false otherwise.
+	 */
+	@Override
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	
+	/**
+	 * Remove all handles. Only the handles still queued are visited.
+	 */
+	@Override
+	public void clear(){
+		for(int i = 0; i < size; i++)
+			position[heap[i]] = -1;
+		size = 0;
+	}
+	
+	private void checkHandle(int handle){
+		if(handle < 0 || handle >= position.length)
+			throw new IndexOutOfBoundsException("handle " + handle + ", capacity " + position.length);
+	}
+	
+	private int positionOf(int handle){
+		checkHandle(handle);
+		int nodeIndex = position[handle];
+		if(nodeIndex < 0)
+			throw new NoSuchElementException("handle not queued: " + handle);
+		return nodeIndex;
+	}
+	
+	/**
+	 * Up heap bubbling of (handle, key) from the hole at nodeIndex.
+	 */
+	private void upHeapBubbling(int nodeIndex, int handle, long key){
+		while(nodeIndex > 0){
+			int parentIndex = (nodeIndex - 1) >>> 1;
+			long parentKey = keys[parentIndex];
+			if(key >= parentKey)
+				break;
+			int parentHandle = heap[parentIndex];
+			heap[nodeIndex] = parentHandle;
+			keys[nodeIndex] = parentKey;
+			position[parentHandle] = nodeIndex;
+			nodeIndex = parentIndex;
+		}
+		heap[nodeIndex] = handle;
+		keys[nodeIndex] = key;
+		position[handle] = nodeIndex;
+	}
+	
+	/**
+	 * Down heap bubbling of (handle, key) from the hole at nodeIndex.
+	 */
+	private void downHeapBubbling(int nodeIndex, int handle, long key){
+		int half = size >>> 1;
+		while(nodeIndex < half){
+			int childIndex = 2 * nodeIndex + 1;
+			long childKey = keys[childIndex];
+			int rightChildIndex = childIndex + 1;
+			if(rightChildIndex < size && keys[rightChildIndex] < childKey)
+				childKey = keys[childIndex = rightChildIndex];
+			if(key <= childKey)
+				break;
+			int childHandle = heap[childIndex];
+			heap[nodeIndex] = childHandle;
+			keys[nodeIndex] = childKey;
+			position[childHandle] = nodeIndex;
+			nodeIndex = childIndex;
+		}
+		heap[nodeIndex] = handle;
+		keys[nodeIndex] = key;
+		position[handle] = nodeIndex;
+	}
+	
+	/**
+	 * Prints the heap for testing purpose.
+	 */
+	public void print(){
+		System.out.print("Our heap is: ");
+		for(int i = 0; i < size; i++){
+			System.out.print(heap[i] + "=" + keys[i] + " ");
+		}
+		System.out.println();
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		IndexMinHeap newHeap = new IndexMinHeap(8);
+		newHeap.insert(0, 60);
+		newHeap.insert(1, 70);
+		newHeap.insert(2, 80);
+		newHeap.insert(3, 150);
+		newHeap.insert(4, 110);
+		newHeap.print();
+		
+		newHeap.decreaseKey(3, 10);
+		newHeap.print();
+		
+		newHeap.remove(0);
+		newHeap.print();
+		
+		System.out.println("poll: " + newHeap.poll());
+		newHeap.print();
+	}
+}
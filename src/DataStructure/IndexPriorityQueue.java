@@ -0,0 +1,88 @@
+package DataStructure;
+
+/** Min priority queue of int handles from 0 to capacity - 1, each queued at most once with a long key
+ *  that can be lowered while queued. Implemented by IndexMinHeap for any keys and by RadixHeap for
+ *  monotone non-negative keys, so a shortest path search can use either.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ */
+public interface IndexPriorityQueue {
+	/**
+	 * Return the number of handles.
+	 *
+	 * @return the capacity
+	 */
+	int capacity();
+	
+	/**
+	 * Queue a handle with its key.
+	 *
+	 * @param handle the handle
+	 * @param key the key
+	 * @throws IllegalArgumentException if the handle is already queued
+	 */
+	void insert(int handle, long key);
+	
+	/**
+	 * Check if a handle is queued.
+	 *
+	 * @param handle the handle
+	 * @return true if it is queued, false otherwise.
+	 */
+	boolean contains(int handle);
+	
+	/**
+	 * Return the key of a queued handle.
+	 *
+	 * @param handle the handle
+	 * @return the key
+	 * @throws java.util.NoSuchElementException if the handle is not queued
+	 */
+	long key(int handle);
+	
+	/**
+	 * Lower the key of a queued handle.
+	 *
+	 * @param handle the handle
+	 * @param key the new key, not larger than the current one
+	 * @throws java.util.NoSuchElementException if the handle is not queued
+	 * @throws IllegalArgumentException if key is larger than the current key
+	 */
+	void decreaseKey(int handle, long key);
+	
+	/**
+	 * Remove a queued handle.
+	 *
+	 * @param handle the handle
+	 * @throws java.util.NoSuchElementException if the handle is not queued
+	 */
+	void remove(int handle);
+	
+	/**
+	 * Remove and return the handle with the smallest key.
+	 *
+	 * @return the handle
+	 * @throws java.util.NoSuchElementException if the queue is empty
+	 */
+	int poll();
+	
+	/**
+	 * Return the number of queued handles.
+	 *
+	 * @return the size
+	 */
+	int size();
+	
+	/**
+	 * Check if the queue is empty.
+	 *
+	 * @return true if it is empty, false otherwise.
+	 */
+	boolean isEmpty();
+	
+	/**
+	 * Remove all handles.
+	 */
+	void clear();
+}
@@ -0,0 +1,246 @@
+package DataStructure;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/** Min heap of primitive ints stored in a growable int[], so inserting does not box like Heap does.
+ *  Up-heap and down-heap bubbling are loops that move a hole instead of swapping: the moving value is held in a
+ *  local and each step writes one element. The array only grows, so once it is large enough (or sized by the
+ *  constructor) insert and poll allocate nothing.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ */
+public class IntHeap {
+	private static final int DEFAULT_CAPACITY = 16;
+	
+	private int[] heap;
+	private int size = 0;
+	
+	public IntHeap(){
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Instantiates an empty heap with room for initialCapacity elements before it grows.
+	 *
+	 * @param initialCapacity the initial capacity
+	 */
+	public IntHeap(int initialCapacity){
+		if(initialCapacity < 0)
+			throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+		heap = new int[initialCapacity];
+	}
+	
+	/**
+	 * Instantiates a heap holding a copy of values, heapified bottom-up in O(n) instead of n inserts.
+	 *
+	 * @param values the values
+	 */
+	public IntHeap(int[] values){
+		heap = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, values.length));
+		size = values.length;
+		heapify();
+	}
+	
+	/**
+	 * Insert new element to our heap.
+	 *
+	 * @param value the value
+	 */
+	public void insert(int value){
+		if(size == heap.length)
+			heap = Arrays.copyOf(heap, Math.max(DEFAULT_CAPACITY, heap.length + (heap.length >> 1)));
+		upHeapBubbling(size++, value);
+	}
+	
+	/**
+	 * Insert length values starting at offset. A large batch is appended and the whole heap rebuilt in O(n),
+	 * a small one is inserted one by one.
+	 *
+	 * @param values the values
+	 * @param offset index of the first value
+	 * @param length number of values
+	 */
+	public void insertAll(int[] values, int offset, int length){
+		if(offset < 0 || length < 0 || offset > values.length - length)
+			throw new ArrayIndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + values.length);
+		int newSize = size + length;
+		if(newSize < 0)
+			throw new IllegalStateException("heap too large");
+		if(newSize > heap.length)
+			heap = Arrays.copyOf(heap, Math.max(newSize, heap.length + (heap.length >> 1)));
+		//One by one costs about length * log2(newSize) moves, the rebuild about newSize.
+		if((long)length * (32 - Integer.numberOfLeadingZeros(newSize)) >= newSize){
+			System.arraycopy(values, offset, heap, size, length);
+			size = newSize;
+			heapify();
+		}
+		else
+		{
+			for(int i = offset; i < offset + length; i++)
+				upHeapBubbling(size++, values[i]);
+		}
+	}
+	
+	/**
+	 * Return the smallest element without removing it.
+	 *
+	 * @return the smallest element
+	 * @throws NoSuchElementException if the heap is empty
+	 */
+	public int peek(){
+		if(size == 0)
+			throw new NoSuchElementException("heap is empty");
+		return heap[0];
+	}
+	
+	/**
+	 * Remove and return the smallest element.
+	 *
+	 * @return the smallest element
+	 * @throws NoSuchElementException if the heap is empty
+	 */
+	public int poll(){
+		if(size == 0)
+			throw new NoSuchElementException("heap is empty");
+		int min = heap[0];
+		int last = heap[--size];
+		if(size > 0)
+			downHeapBubbling(0, last);
+		return min;
+	}
+	
+	/**
+	 * Remove the smallest values, up to max of them, and write them in ascending order to out from index 0.
+	 *
+	 * @param out the output, with at least max elements
+	 * @param max most values to remove
+	 * @return number of values removed
+	 */
+	public int drainTo(int[] out, int max){
+		if(max < 0 || max > out.length)
+			throw new IllegalArgumentException("max must be from 0 to " + out.length + ": " + max);
+		int count = Math.min(max, size);
+		for(int i = 0; i < count; i++){
+			out[i] = heap[0];
+			int last = heap[--size];
+			if(size > 0)
+				downHeapBubbling(0, last);
+		}
+		return count;
+	}
+	
+	/**
+	 * Return the number of elements.
+	 *
+	 * @return the size
+	 */
+	public int size(){
+		return size;
+	}
+	
+	/**
+	 * Check if the heap is empty.
+	 *
+	 * @return true if it is empty, false otherwise.
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	
+	/**
+	 * Remove all elements. The capacity is kept.
+	 */
+	public void clear(){
+		size = 0;
+	}
+	
+	/**
+	 * Restore the heap order of heap[0, size) bottom-up: down heap bubbling of every parent, last one first.
+	 * Most nodes are near the leaves and move little, so this is O(n).
+	 */
+	private void heapify(){
+		for(int i = (size >>> 1) - 1; i >= 0; i--)
+			downHeapBubbling(i, heap[i]);
+	}
+	
+	/**
+	 * Up heap bubbling of value from the hole at nodeIndex: move parents down into the hole
+	 * while they are larger, then put value in the hole.
+	 */
+	private void upHeapBubbling(int nodeIndex, int value){
+		while(nodeIndex > 0){
+			int parentIndex = (nodeIndex - 1) >>> 1;
+			int parentValue = heap[parentIndex];
+			if(value >= parentValue)
+				break;
+			heap[nodeIndex] = parentValue;
+			nodeIndex = parentIndex;
+		}
+		heap[nodeIndex] = value;
+	}
+	
+	/**
+	 * Down heap bubbling of value from the hole at nodeIndex: move the smaller child up into the hole
+	 * while it is smaller, then put value in the hole.
+	 */
+	private void downHeapBubbling(int nodeIndex, int value){
+		int half = size >>> 1;
+		while(nodeIndex < half){
+			int childIndex = 2 * nodeIndex + 1;
+			int childValue = heap[childIndex];
+			int rightChildIndex = childIndex + 1;
+			if(rightChildIndex < size && heap[rightChildIndex] < childValue)
+				childValue = heap[childIndex = rightChildIndex];
+			if(value <= childValue)
+				break;
+			heap[nodeIndex] = childValue;
+			nodeIndex = childIndex;
+		}
+		heap[nodeIndex] = value;
+	}
+	
+	/**
+	 * Prints the heap for testing purpose.
+	 */
+	public void print(){
+		System.out.print("Our heap is: ");
+		for(int i = 0; i < size; i++){
+			System.out.print(heap[i] + " ");
+		}
+		System.out.println();
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		IntHeap newHeap = new IntHeap();
+		newHeap.insert(6);
+		newHeap.insert(7);
+		newHeap.insert(8);
+		newHeap.insert(15);
+		newHeap.insert(11);
+		newHeap.insert(3);
+		newHeap.insert(5);
+		newHeap.print();
+		
+		System.out.println("poll: " + newHeap.poll());
+		newHeap.print();
+		
+		System.out.println("poll: " + newHeap.poll());
+		newHeap.print();
+		
+		newHeap.insert(2);
+		newHeap.print();
+		System.out.println("peek: " + newHeap.peek() + ", size: " + newHeap.size());
+		
+		newHeap = new IntHeap(new int[]{9, 4, 12, 1, 7});
+		newHeap.insertAll(new int[]{10, 3, 8}, 0, 3);
+		newHeap.print();
+		int[] drained = new int[4];
+		int count = newHeap.drainTo(drained, drained.length);
+		System.out.print("Drained:");
+		for(int i = 0; i < count; i++)
+			System.out.print(" " + drained[i]);
+		System.out.println();
+	}
+}
@@ -0,0 +1,201 @@
+package DataStructure;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** Concurrent min priority queue of ints made of several IntHeaps, each with its own lock (a MultiQueue).
+ *  insert puts the value in a random heap that is not locked. poll looks at the minimum of 2 random heaps and
+ *  removes it from the smaller one, so threads rarely wait for each other, but a poll may return a value that is
+ *  not the global minimum (it is close to it in rank on average). With queues = 1 the queue is strict: every
+ *  operation takes the single lock and poll always returns the minimum, the same as a Heap behind a global lock.
+ *  The minimum of each heap is published in a padded AtomicLongArray so choosing a heap takes no lock.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ */
+public class MultiQueue {
+	/** Published minimum of an empty heap. */
+	private static final long EMPTY = Long.MAX_VALUE;
+	/** Slots between 2 published minimums, so each one is on its own 64-byte cache line. */
+	private static final int PADDING = 8;
+	
+	private final IntHeap[] heaps;
+	private final ReentrantLock[] locks;
+	private final AtomicLongArray minimums;
+	
+	/**
+	 * Instantiates a relaxed queue with queuesPerThread * threads heaps.
+	 *
+	 * @param queuesPerThread heaps per thread (c), 2 is a common choice
+	 * @param threads number of threads using the queue (p)
+	 */
+	public MultiQueue(int queuesPerThread, int threads){
+		this(checkedProduct(queuesPerThread, threads));
+	}
+	
+	/**
+	 * Instantiates a queue with the given number of heaps. 1 gives the strict queue.
+	 *
+	 * @param queues number of heaps
+	 */
+	public MultiQueue(int queues){
+		if(queues < 1)
+			throw new IllegalArgumentException("queues must be positive: " + queues);
+		heaps = new IntHeap[queues];
+		locks = new ReentrantLock[queues];
+		minimums = new AtomicLongArray(queues * PADDING);
+		for(int i = 0; i < queues; i++){
+			heaps[i] = new IntHeap();
+			locks[i] = new ReentrantLock();
+			minimums.set(i * PADDING, EMPTY);
+		}
+	}
+	
+	/**
+	 * Instantiates a strict queue: a single heap behind a single lock.
+	 *
+	 * @return the queue
+	 */
+	public static MultiQueue strict(){
+		return new MultiQueue(1);
+	}
+	
+	private static int checkedProduct(int queuesPerThread, int threads){
+		if(queuesPerThread < 1 || threads < 1)
+			throw new IllegalArgumentException("queuesPerThread and threads must be positive: " + queuesPerThread + ", " + threads);
+		return queuesPerThread * threads;
+	}
+	
+	/**
+	 * Check if polls always return the minimum.
+	 *
+	 * @return true for a single heap
+	 */
+	public boolean isStrict(){
+		return heaps.length == 1;
+	}
+	
+	/**
+	 * Insert a value.
+	 *
+	 * @param value the value
+	 */
+	public void insert(int value){
+		int queue = lockAny();
+		try{
+			heaps[queue].insert(value);
+			publish(queue);
+		}
+		finally{
+			locks[queue].unlock();
+		}
+	}
+	
+	/**
+	 * Remove and return a small value: the minimum in strict mode, the smaller minimum of 2 random heaps otherwise.
+	 * Returns emptyValue when every heap was seen empty. With concurrent inserts that check is not atomic,
+	 * so a value inserted during the scan may be missed.
+	 *
+	 * @param emptyValue the value to return when the queue is empty
+	 * @return the removed value, or emptyValue
+	 */
+	public int pollOrElse(int emptyValue){
+		int n = heaps.length;
+		if(n == 1){
+			locks[0].lock();
+			try{
+				if(heaps[0].isEmpty())
+					return emptyValue;
+				int value = heaps[0].poll();
+				publish(0);
+				return value;
+			}
+			finally{
+				locks[0].unlock();
+			}
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while(true){
+			int first = random.nextInt(n);
+			int second = random.nextInt(n);
+			int queue = minimums.get(first * PADDING) <= minimums.get(second * PADDING) ? first : second;
+			if(minimums.get(queue * PADDING) == EMPTY){
+				if(isEmpty())
+					return emptyValue;
+				continue;
+			}
+			if(!locks[queue].tryLock())
+				continue;
+			try{
+				//The heap may have been emptied between the check and the lock.
+				if(heaps[queue].isEmpty())
+					continue;
+				int value = heaps[queue].poll();
+				publish(queue);
+				return value;
+			}
+			finally{
+				locks[queue].unlock();
+			}
+		}
+	}
+	
+	/**
+	 * Check if every heap is empty. Only a snapshot when other threads are inserting.
+	 *
+	 * @return true if it is empty, false otherwise.
+	 */
+	public boolean isEmpty(){
+		for(int i = 0; i < heaps.length; i++){
+			if(minimums.get(i * PADDING) != EMPTY)
+				return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Lock a heap: the only heap in strict mode, otherwise the first random heap whose lock is free.
+	 *
+	 * @return index of the locked heap
+	 */
+	private int lockAny(){
+		int n = heaps.length;
+		if(n == 1){
+			locks[0].lock();
+			return 0;
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		while(true){
+			int queue = random.nextInt(n);
+			if(locks[queue].tryLock())
+				return queue;
+		}
+	}
+	
+	/**
+	 * Publish the minimum of a heap. Called with its lock held.
+	 */
+	private void publish(int queue){
+		IntHeap heap = heaps[queue];
+		minimums.set(queue * PADDING, heap.isEmpty() ? EMPTY : heap.peek());
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		MultiQueue queue = new MultiQueue(2, 2);
+		for(int value : new int[]{6, 7, 8, 15, 11, 3, 5})
+			queue.insert(value);
+		System.out.print("Relaxed polls:");
+		for(int value = queue.pollOrElse(-1); value != -1; value = queue.pollOrElse(-1))
+			System.out.print(" " + value);
+		System.out.println();
+		
+		queue = MultiQueue.strict();
+		for(int value : new int[]{6, 7, 8, 15, 11, 3, 5})
+			queue.insert(value);
+		System.out.print("Strict polls:");
+		for(int value = queue.pollOrElse(-1); value != -1; value = queue.pollOrElse(-1))
+			System.out.print(" " + value);
+		System.out.println();
+	}
+}
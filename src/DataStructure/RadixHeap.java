@@ -0,0 +1,293 @@
+package DataStructure;
+import java.util.NoSuchElementException;
+
+/** Monotone radix heap: an indexed priority queue of int handles with non-negative long keys, for searches
+ *  like Dijkstra's algorithm with non-negative weights, where no key is ever smaller than the last polled key.
+ *  Keys are not ordered by comparisons but put in buckets by the highest bit where they differ from the last
+ *  polled key: bucket 0 holds keys equal to it, bucket b keys that first differ at bit b - 1. When bucket 0 is
+ *  empty, poll takes the first non-empty bucket, makes its smallest key the new last key and spreads the bucket
+ *  over lower buckets. A key only moves down, at most log2(C) times for a key range C, so poll is amortized
+ *  O(log C) and insert and decreaseKey are O(1). Each bucket is a doubly linked list threaded through arrays
+ *  indexed by handle, so nothing is allocated after construction, and a bit mask finds the first non-empty bucket.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ */
+public class RadixHeap implements IndexPriorityQueue {
+	//Keys are below 2^63, so key ^ last has at most 63 significant bits: buckets 0 to 63.
+	private static final int BUCKETS = 64;
+	
+	private final long[] keys;
+	private final int[] next;
+	private final int[] previous;
+	//Bucket of each handle, or -1 when it is not queued.
+	private final int[] bucket;
+	private final int[] heads = new int[BUCKETS];
+	//Bit b is set when bucket b is not empty.
+	private long nonEmpty = 0;
+	private long last = 0;
+	private int size = 0;
+	
+	/**
+	 * Instantiates an empty heap for handles 0 to capacity - 1.
+	 *
+	 * @param capacity the number of handles
+	 */
+	public RadixHeap(int capacity){
+		if(capacity < 0)
+			throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+		keys = new long[capacity];
+		next = new int[capacity];
+		previous = new int[capacity];
+		bucket = new int[capacity];
+		for(int i = 0; i < capacity; i++)
+			bucket[i] = -1;
+		for(int b = 0; b < BUCKETS; b++)
+			heads[b] = -1;
+	}
+	
+	@Override
+	public int capacity(){
+		return bucket.length;
+	}
+	
+	/**
+	 * Return the last polled key, the smallest key that can still be queued. 0 before the first poll.
+	 *
+	 * @return the last key
+	 */
+	public long lastKey(){
+		return last;
+	}
+	
+	/**
+	 * Queue a handle with its key.
+	 *
+	 * @param handle the handle
+	 * @param key the key, not smaller than lastKey()
+	 * @throws IllegalArgumentException if the handle is already queued or key is smaller than lastKey()
+	 */
+	@Override
+	public void insert(int handle, long key){
+		if(contains(handle))
+			throw new IllegalArgumentException("handle already queued: " + handle);
+		checkMonotone(key);
+		keys[handle] = key;
+		link(handle, bucketOf(key));
+		size++;
+	}
+	
+	@Override
+	public boolean contains(int handle){
+		checkHandle(handle);
+		return bucket[handle] >= 0;
+	}
+	
+	@Override
+	public long key(int handle){
+		checkQueued(handle);
+		return keys[handle];
+	}
+	
+	/**
+	 * Lower the key of a queued handle.
+	 *
+	 * @param handle the handle
+	 * @param key the new key, not larger than the current one and not smaller than lastKey()
+	 * @throws NoSuchElementException if the handle is not queued
+	 * @throws IllegalArgumentException if key is larger than the current key or smaller than lastKey()
+	 */
+	@Override
+	public void decreaseKey(int handle, long key){
+		checkQueued(handle);
+		if(key > keys[handle])
+			throw new IllegalArgumentException("key " + key + " is larger than the current key " + keys[handle]);
+		checkMonotone(key);
+		unlink(handle);
+		keys[handle] = key;
+		link(handle, bucketOf(key));
+	}
+	
+	@Override
+	public void remove(int handle){
+		checkQueued(handle);
+		unlink(handle);
+		size--;
+	}
+	
+	/**
+	 * Return the smallest key. Scans the first non-empty bucket, and leaves the buckets unchanged.
+	 *
+	 * @return the key
+	 * @throws NoSuchElementException if the heap is empty
+	 */
+	public long peekKey(){
+		if(size == 0)
+			throw new NoSuchElementException("heap is empty");
+		int first = Long.numberOfTrailingZeros(nonEmpty);
+		if(first == 0)
+			return last;
+		return keys[minimumOf(first)];
+	}
+	
+	/**
+	 * Remove and return the handle with the smallest key. That key becomes lastKey().
+	 *
+	 * @return the handle
+	 * @throws NoSuchElementException if the heap is empty
+	 */
+	@Override
+	public int poll(){
+		if(size == 0)
+			throw new NoSuchElementException("heap is empty");
+		if(heads[0] < 0)
+			redistribute(Long.numberOfTrailingZeros(nonEmpty));
+		int min = heads[0];
+		unlink(min);
+		size--;
+		return min;
+	}
+	
+	@Override
+	public int size(){
+		return size;
+	}
+	
+	@Override
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	
+	/**
+	 * Remove all handles and reset lastKey() to 0. Only the handles still queued are visited.
+	 */
+	@Override
+	public void clear(){
+		while(nonEmpty != 0){
+			int b = Long.numberOfTrailingZeros(nonEmpty);
+			for(int handle = heads[b]; handle >= 0; handle = next[handle])
+				bucket[handle] = -1;
+			heads[b] = -1;
+			nonEmpty &= nonEmpty - 1;
+		}
+		last = 0;
+		size = 0;
+	}
+	
+	/**
+	 * Make the smallest key of bucket b (not 0) the last key and move every handle of b to its new, lower bucket.
+	 */
+	private void redistribute(int b){
+		last = keys[minimumOf(b)];
+		int handle = heads[b];
+		heads[b] = -1;
+		nonEmpty &= ~(1L << b);
+		while(handle >= 0){
+			int following = next[handle];
+			link(handle, bucketOf(keys[handle]));
+			handle = following;
+		}
+	}
+	
+	/**
+	 * Return the handle with the smallest key in bucket b.
+	 */
+	private int minimumOf(int b){
+		int min = heads[b];
+		for(int handle = next[min]; handle >= 0; handle = next[handle]){
+			if(keys[handle] < keys[min])
+				min = handle;
+		}
+		return min;
+	}
+	
+	/**
+	 * Bucket of a key: 0 when it equals the last key, else 1 + index of the highest bit where they differ.
+	 */
+	private int bucketOf(long key){
+		return 64 - Long.numberOfLeadingZeros(key ^ last);
+	}
+	
+	/**
+	 * Push handle at the head of bucket b.
+	 */
+	private void link(int handle, int b){
+		int head = heads[b];
+		next[handle] = head;
+		previous[handle] = -1;
+		if(head >= 0)
+			previous[head] = handle;
+		heads[b] = handle;
+		bucket[handle] = b;
+		nonEmpty |= 1L << b;
+	}
+	
+	/**
+	 * Take handle out of its bucket.
+	 */
+	private void unlink(int handle){
+		int b = bucket[handle];
+		int before = previous[handle];
+		int after = next[handle];
+		if(before >= 0)
+			next[before] = after;
+		else
+			heads[b] = after;
+		if(after >= 0)
+			previous[after] = before;
+		if(heads[b] < 0)
+			nonEmpty &= ~(1L << b);
+		bucket[handle] = -1;
+	}
+	
+	private void checkMonotone(long key){
+		if(key < last)
+			throw new IllegalArgumentException("key " + key + " is smaller than the last polled key " + last);
+	}
+	
+	private void checkHandle(int handle){
+		if(handle < 0 || handle >= bucket.length)
+			throw new IndexOutOfBoundsException("handle " + handle + ", capacity " + bucket.length);
+	}
+	
+	private void checkQueued(int handle){
+		if(!contains(handle))
+			throw new NoSuchElementException("handle not queued: " + handle);
+	}
+	
+	/**
+	 * Prints the buckets for testing purpose.
+	 */
+	public void print(){
+		System.out.print("Our heap is:");
+		for(int b = 0; b < BUCKETS; b++){
+			if(heads[b] < 0)
+				continue;
+			System.out.print(" [" + b + "]");
+			for(int handle = heads[b]; handle >= 0; handle = next[handle])
+				System.out.print(" " + handle + "=" + keys[handle]);
+		}
+		System.out.println();
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		RadixHeap newHeap = new RadixHeap(8);
+		newHeap.insert(0, 60);
+		newHeap.insert(1, 70);
+		newHeap.insert(2, 80);
+		newHeap.insert(3, 150);
+		newHeap.insert(4, 110);
+		newHeap.print();
+		
+		newHeap.decreaseKey(3, 10);
+		newHeap.print();
+		
+		System.out.println("poll: " + newHeap.poll());
+		newHeap.print();
+		
+		newHeap.insert(5, 65);
+		System.out.println("poll: " + newHeap.poll());
+		newHeap.print();
+	}
+}
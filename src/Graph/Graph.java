@@ -1,10 +1,12 @@
 package Graph;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.PriorityQueue;
 import java.util.Random;
 
+import DataStructure.IndexMinHeap;
+import DataStructure.IndexPriorityQueue;
+import DataStructure.RadixHeap;
+
 /**Graph implementation using Adjacency Matrix Structure.
  * This demo has some basic function you can perform on a undirected graph as well as some algorithms to find shortest path.
  * 
@@ -28,6 +30,8 @@ public class Graph {
 	private ArrayList<String> discoveredVertices;
 	//This hashMap is used to store distance from a vertex to all other vertices in G. Key: name of vertex, Value: distance.
 	private HashMap<String,Integer> distance;
+	//Priority queue of vertex indexes used in Dijkstra's algorithm, kept between calls.
+	private IndexPriorityQueue dijkstraQueue;
 	
 	
 	/** 
@@ -71,40 +75,6 @@ public class Graph {
 		}
 	}
 	
-	/**
-	 * This Distance sub-class is used in Dijkstra's algorithm where the variable 'distance' is the distance
-	 * from starting vertex to the vertex v (which will be stored in variable 'vertex').
-	 * The 'distance' variable also will be used as key to be compared in our priorityQueue for the algorithm
-	 */
-	private class Distance{
-		private int distance;
-		private String vertex;
-		private Distance(int d, String v){
-			distance = d;
-			vertex = v;
-		}
-		
-		//Return distance to this vertex.
-		private int getDistance(){
-			return distance;
-		}
-		
-		private String getVertexName(){
-			return vertex;
-		}
-	}
-	
-	/**
-	 * This comparator interface inplementation is used for PriorityQueue constructor for our Dijkstra's algorithm.
-	 * The queue will be sorted with the smallest distance in the top of the queue.
-	 */
-	private static Comparator<Distance> distanceComparator = new Comparator<Distance>(){
-		
-		public int compare(Distance vertex1, Distance vertex2) {
-			return (int)(vertex1.getDistance() - vertex2.getDistance());
-		}
-	};
-	
 	/**
 	 * Construct a new graph with input number of vertices. MAX = 16
 	 * Edges are randomly generate (with weight).
@@ -530,6 +500,18 @@ public class Graph {
 			currentLevel = nextLevel;
 		}
 	}
+	/**
+	 * Check if some edge has a negative weight.
+	 *
+	 * @return true if a weight is negative, false otherwise.
+	 */
+	private boolean hasNegativeWeight(){
+		for(Edge e : edgeList.values()){
+			if(e.getWeight() < 0)
+				return true;
+		}
+		return false;
+	}
 	/**
 	 * SHORTEST PATH PROBLEM
 	 */
@@ -539,82 +521,68 @@ public class Graph {
 	 * The algorithm will run through the graph and print out the distance from starting vertex to other vertices.
 	 *
 	 * @param vertex the starting vertex.
+	 * @throws IllegalArgumentException if the vertex is not in the graph.
 	 */
 	public void Dijkstra(String vertex){
+		int startIndex = this.getVertexIndex(vertex);
+		if(startIndex < 0)
+			throw new IllegalArgumentException("Unknown vertex: " + vertex);
+		
 		//Reset containers
 		discoveredVertices = new ArrayList<String>();
 		//Initialize our return hashMap.
 		distance = new HashMap<String,Integer>();
 		
-		//Priority queue used in our algorithm. We use comparator 'distanceComparator', which is implemented above.
-		PriorityQueue<Distance> queue = new PriorityQueue<Distance>(this.numVertices(),distanceComparator);
+		//Priority queue of vertex indexes keyed by their distance, so a distance can be lowered in place.
+		//With no negative weight the polled distances never decrease and the radix heap can be used.
+		if(dijkstraQueue == null)
+			dijkstraQueue = hasNegativeWeight() ? new IndexMinHeap(numVertices) : new RadixHeap(numVertices);
+		IndexPriorityQueue queue = dijkstraQueue;
+		queue.clear();
 		
-		//Set distance to starting vertex to 0 and added to our PriorityQueue and the return distance Hashmap.
-		distance.put(vertex, 0);
-		Distance distanceObj = new Distance(0, vertex);
-		queue.add(distanceObj);
-		
-		//Add the remaining vertices to the queue. Each of the vertex will have default infinite value.
-		for(int i = 0; i < verticesName.length; i++){
-			String v = verticesName[i];
-			if(!vertex.equals(v)){
-				//Note here i subtract infinite value by i to max each value unique because we need to use this as key to compare.
-				int infiniteVal = (Integer.MAX_VALUE - i) / 2;
-				Distance d = new Distance(infiniteVal, v);
-				queue.add(d);
-				distance.put(v, infiniteVal);
-			}
-		}
+		//Each vertex starts with infinite distance, except the starting vertex. Vertices enter the queue when first reached.
+		int[] vertexDistance = new int[numVertices];
+		boolean[] inCloud = new boolean[numVertices];
+		for(int i = 0; i < numVertices; i++)
+			vertexDistance[i] = (Integer.MAX_VALUE - i) / 2; //Same infinite values as before: halved to avoid overflow, unique per vertex
+		vertexDistance[startIndex] = 0;
+		queue.insert(startIndex, 0);
 		
 		//We start by remove vertex from PriorityQueue.
 		while(!queue.isEmpty()){
 			//Get the vertex with the smallest distance from queue and added to our cloud. Note: discoveredVertices structure is
 			//acting as our cloud in this implementation
-			Distance smallestDistanceVertex = queue.poll();
-			String currentVertex = smallestDistanceVertex.getVertexName();
+			int currentIndex = queue.poll();
+			String currentVertex = verticesName[currentIndex];
+			inCloud[currentIndex] = true;
 			discoveredVertices.add(currentVertex);
 			
 			//Find the adjacent vertices to currentVertex that is not in the cloud.
-			ArrayList<String> incidentEdges = this.incidentEdges(currentVertex);
-			for(int i = 0; i < incidentEdges.size(); i++){
-				String e = incidentEdges.get(i);
+			for(int oppositeIndex = 0; oppositeIndex < numVertices; oppositeIndex++){
+				String e = verticesMatrix[currentIndex][oppositeIndex];
+				if(e == null || inCloud[oppositeIndex])
+					continue;
 				//Check for valid edge in directed graph. Valid edge is edge coming out from this current vertex.
-				boolean valid = true;
-				if(directed){
-					Edge checkEdge = this.getEdge(e);
-					String startVertex2 = checkEdge.getStartVertex();
-					if(!startVertex2.equals(currentVertex))
-						valid = false;
-				}
-				if(valid){
-					//Check to see if the opposite vertex is in cloud.
-					String oppositeVertex  = this.opposite(currentVertex, e);
-					if(!discoveredVertices.contains(oppositeVertex)){
-						
-						//Begin to do relaxation procedure on this currentVertex and edge e.
-						//If the current distance from starting vertex to this opposite vertex is larger than the distance from
-						//current vertex v + weight of edge (v, oppositeVertex), then update the distance to opposite vertex (in our result HashMap).
-						int currentDistanceAtOppsiteVertex  = distance.get(oppositeVertex);
-						int distanceToOppisiteVertex = distance.get(currentVertex) + this.getEdge(e).getWeight();
-						if(currentDistanceAtOppsiteVertex > distanceToOppisiteVertex){
-							//Update its value in result HashMap
-							distance.put(oppositeVertex, distanceToOppisiteVertex);
-							//Update our PriorityQueue. O(n) !!!!
-							for(Distance d : queue){
-								if(d != null){			
-									if(d.getDistance() == currentDistanceAtOppsiteVertex){
-										queue.remove(d);
-										Distance newDistance = new Distance(distanceToOppisiteVertex, oppositeVertex);
-										queue.add(newDistance);
-										break;
-									}
-								}
-							}
-						}
-					}
+				Edge currentEdge = this.getEdge(e);
+				if(directed && !currentEdge.getStartVertex().equals(currentVertex))
+					continue;
+				
+				//Begin to do relaxation procedure on this currentVertex and edge e.
+				//If the current distance from starting vertex to this opposite vertex is larger than the distance from
+				//current vertex v + weight of edge (v, oppositeVertex), then update the distance to opposite vertex.
+				int distanceToOppositeVertex = vertexDistance[currentIndex] + currentEdge.getWeight();
+				if(vertexDistance[oppositeIndex] > distanceToOppositeVertex){
+					vertexDistance[oppositeIndex] = distanceToOppositeVertex;
+					//Update our PriorityQueue. O(log n).
+					if(queue.contains(oppositeIndex))
+						queue.decreaseKey(oppositeIndex, distanceToOppositeVertex);
+					else
+						queue.insert(oppositeIndex, distanceToOppositeVertex);
 				}
 			}
 		}
+		for(int i = 0; i < numVertices; i++)
+			distance.put(verticesName[i], vertexDistance[i]);
 		
 		//Print out the result
 		for(String k : distance.keySet()){
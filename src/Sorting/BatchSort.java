@@ -0,0 +1,189 @@
+package Sorting;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/** Sort many small arrays in one call, for request paths that sort thousands of 8 to 256 element arrays.
+ *  The input is either an array of arrays, or one flat array cut into segments by an offsets array.
+ *  Each segment is sorted in place by a kernel picked from its size, with no Sorting object per segment and
+ *  scratch space reused from one segment to the next. Segments can be spread over an ExecutorService
+ *  (a platform or virtual thread executor): they are grouped in batches of about BATCH_ELEMENTS elements
+ *  so the per-task overhead stays small compared to the sorting work. Each worker thread keeps its own radix
+ *  sort scratch across tasks and calls (a virtual thread only lives for one task).
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class BatchSort {
+	/** Segments up to SortingNetworks.MAX_SIZE are sorted by a network, up to this size they are insertion sorted. */
+	private static final int INSERTION_SORT_LIMIT = 32;
+	/** Segments up to this size are quick sorted, larger ones are radix sorted. */
+	private static final int QUICK_SORT_LIMIT = 1 << 12;
+	/** Number of elements a parallel task gets, at least one segment. */
+	private static final int BATCH_ELEMENTS = 1 << 15;
+	
+	//Radix sort of each worker thread for the parallel methods, kept across tasks and calls.
+	private static final ThreadLocal<RadixSort> WORKER_RADIX_SORT = new ThreadLocal<RadixSort>(){
+		@Override
+		protected RadixSort initialValue(){
+			return new RadixSort();
+		}
+	};
+	
+	//Radix sort for large segments, it holds the reusable scratch and histogram arrays.
+	private final RadixSort radixSort = new RadixSort();
+	
+	/**
+	 * Sort each array in place.
+	 *
+	 * @param arrays the arrays
+	 */
+	public void sort(int[][] arrays){
+		for(int[] array : arrays)
+			sortSegment(array, 0, array.length, radixSort);
+	}
+	
+	/**
+	 * Sort each segment [offsets[i], offsets[i + 1]) of data in place.
+	 *
+	 * @param data the flat array
+	 * @param offsets non decreasing segment bounds, the last one at most data.length
+	 */
+	public void sort(int[] data, int[] offsets){
+		checkOffsets(data, offsets);
+		for(int i = 0; i + 1 < offsets.length; i++)
+			sortSegment(data, offsets[i], offsets[i + 1], radixSort);
+	}
+	
+	/**
+	 * Sort each array in place, spread over the executor in batches. Blocks until all arrays are sorted.
+	 *
+	 * @param arrays the arrays
+	 * @param executor the executor
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public void sort(final int[][] arrays, ExecutorService executor) throws InterruptedException{
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		int first = 0;
+		long elements = 0;
+		for(int i = 0; i < arrays.length; i++){
+			elements += arrays[i].length;
+			if(elements >= BATCH_ELEMENTS || i == arrays.length - 1){
+				final int from = first;
+				final int to = i + 1;
+				tasks.add(new Callable<Void>(){
+					@Override
+					public Void call(){
+						RadixSort workerRadixSort = WORKER_RADIX_SORT.get();
+						for(int j = from; j < to; j++)
+							sortSegment(arrays[j], 0, arrays[j].length, workerRadixSort);
+						return null;
+					}
+				});
+				first = i + 1;
+				elements = 0;
+			}
+		}
+		runAll(tasks, executor);
+	}
+	
+	/**
+	 * Sort each segment [offsets[i], offsets[i + 1]) of data in place, spread over the executor in batches.
+	 * Blocks until all segments are sorted.
+	 *
+	 * @param data the flat array
+	 * @param offsets non decreasing segment bounds, the last one at most data.length
+	 * @param executor the executor
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public void sort(final int[] data, final int[] offsets, ExecutorService executor) throws InterruptedException{
+		checkOffsets(data, offsets);
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+		int first = 0;
+		for(int i = 0; i + 1 < offsets.length; i++){
+			if(offsets[i + 1] - offsets[first] >= BATCH_ELEMENTS || i + 2 == offsets.length){
+				final int from = first;
+				final int to = i + 1;
+				tasks.add(new Callable<Void>(){
+					@Override
+					public Void call(){
+						RadixSort workerRadixSort = WORKER_RADIX_SORT.get();
+						for(int j = from; j < to; j++)
+							sortSegment(data, offsets[j], offsets[j + 1], workerRadixSort);
+						return null;
+					}
+				});
+				first = i + 1;
+			}
+		}
+		runAll(tasks, executor);
+	}
+	
+	/**
+	 * Sort [fromIndex, toIndex) of the array with the kernel that fits its size.
+	 *
+	 * @param array the array
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex the last index (exclusive)
+	 * @param radixSort radix sort of the calling thread, for large segments
+	 */
+	private static void sortSegment(int[] array, int fromIndex, int toIndex, RadixSort radixSort){
+		int length = toIndex - fromIndex;
+		if(length <= SortingNetworks.MAX_SIZE)
+			SortingNetworks.sortSmall(array, fromIndex, length);
+		else if(length <= INSERTION_SORT_LIMIT)
+			InsertionSort.insertionSort(array, fromIndex, toIndex);
+		else if(length <= QUICK_SORT_LIMIT)
+			QuickSort.quickSort(array, fromIndex, toIndex);
+		else
+			radixSort.sort(array, fromIndex, length);
+	}
+	
+	/**
+	 * Check that offsets cut data into valid segments.
+	 */
+	private static void checkOffsets(int[] data, int[] offsets){
+		for(int i = 0; i < offsets.length; i++){
+			if(offsets[i] < 0 || offsets[i] > data.length || (i > 0 && offsets[i] < offsets[i - 1]))
+				throw new IllegalArgumentException("offsets[" + i + "] = " + offsets[i] + " is not a valid segment bound");
+		}
+	}
+	
+	/**
+	 * Run the tasks on the executor and wait for all of them. A failure of any task is rethrown.
+	 */
+	private static void runAll(List<Callable<Void>> tasks, ExecutorService executor) throws InterruptedException{
+		for(Future<Void> future : executor.invokeAll(tasks)){
+			try{
+				future.get();
+			}
+			catch(ExecutionException e){
+				Throwable cause = e.getCause();
+				if(cause instanceof RuntimeException)
+					throw (RuntimeException)cause;
+				if(cause instanceof Error)
+					throw (Error)cause;
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		int[] data = {5, 3, 9, 1, 8, 2, 7, 6, 4, 0, 3, 1};
+		int[] offsets = {0, 4, 4, 9, 12};
+		new BatchSort().sort(data, offsets);
+		System.out.print("Batch sorted segments:");
+		for(int i = 0; i + 1 < offsets.length; i++){
+			System.out.print(" [");
+			for(int j = offsets[i]; j < offsets[i + 1]; j++)
+				System.out.print((j > offsets[i] ? " " : "") + data[j]);
+			System.out.print("]");
+		}
+		System.out.println();
+	}
+}
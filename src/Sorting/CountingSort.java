@@ -0,0 +1,104 @@
+package Sorting;
+import java.util.Arrays;
+
+/** Counting Sort algorithm implementation for keys with a small range, like status codes or shard ids.
+ *  One scan finds min and max. If max - min is small compared to the number of elements, every value is counted
+ *  and the array is rewritten from the counts in O(n + range). Otherwise it falls back to QuickSort.
+ *  The count array is kept by the instance and reused across calls.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class CountingSort extends Sorting{
+	/** Counting is used when the range is at most this many times the number of elements. */
+	private static final int RANGE_FACTOR = 4;
+	/** Largest range that is counted, whatever the number of elements (16M counts = 64 MB). */
+	private static final int MAX_RANGE = 1 << 24;
+	
+	//Count array reused across calls on this instance. It only grows and is left all zero after each sort.
+	private int[] counts = new int[0];
+	
+	public CountingSort(int sizeOfArray){
+		super(sizeOfArray);
+	}
+	
+	public CountingSort(){
+		super();
+	}
+	
+	//Implement Counting Sort
+	@Override
+	public void sort(int[] array, int offset, int length){
+		checkRange(array, offset, length);
+		if(length < 2)
+			return;
+		int end = offset + length;
+		int min = array[offset];
+		int max = min;
+		for(int i = offset + 1; i < end; i++){
+			int value = array[i];
+			if(value < min)
+				min = value;
+			if(value > max)
+				max = value;
+		}
+		
+		long range = (long)max - min + 1;
+		if(!useCounting(range, length)){
+			QuickSort.quickSort(array, offset, end);
+			return;
+		}
+		if(counts.length < range)
+			counts = new int[(int)range];
+		countingSort(array, offset, end, min, (int)range, counts);
+	}
+	
+	/**
+	 * Check if counting pays off for this range and number of elements.
+	 *
+	 * @param range max - min + 1
+	 * @param length number of elements
+	 * @return true to use counting sort
+	 */
+	static boolean useCounting(long range, int length){
+		return range <= MAX_RANGE && range <= (long)length * RANGE_FACTOR;
+	}
+	
+	/**
+	 * Count each value of [fromIndex, toIndex), then write the values back in order.
+	 * The used part of count is zero before and after the call.
+	 *
+	 * @param array the array
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex the last index (exclusive)
+	 * @param min smallest value of the range
+	 * @param range max - min + 1
+	 * @param count count array with at least range elements
+	 */
+	private static void countingSort(int[] array, int fromIndex, int toIndex, int min, int range, int[] count){
+		for(int i = fromIndex; i < toIndex; i++)
+			count[array[i] - min]++;
+		
+		int position = fromIndex;
+		for(int i = 0; i < range; i++){
+			int n = count[i];
+			if(n != 0){
+				Arrays.fill(array, position, position + n, min + i);
+				position += n;
+				count[i] = 0;
+			}
+		}
+		SortCounters.count(0, toIndex - fromIndex);
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		
+		System.out.println("Counting Sort:");
+		CountingSort newCSort = new CountingSort(20);
+		newCSort.print();
+		newCSort.doSort();
+		newCSort.print();
+	}
+}
@@ -0,0 +1,308 @@
+package Sorting;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** External Merge Sort implementation for binary files of ints that do not fit in the heap.
+ *  Ints are stored as 4 big-endian bytes each (same format as DataOutputStream.writeInt).
+ *  The input is read in chunks through memory-mapped regions, each chunk is sorted in memory by MergeSort and
+ *  spilled to a temporary run file. Runs are then merged fanIn at a time with KWayMerge, which extends the
+ *  2-list MergeSort.doMerge loop to k lists, until a single merge writes the output.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class ExternalMergeSort {
+	/** Default number of ints sorted in memory per run (64 MB). */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 24;
+	/** Default number of runs merged at once. */
+	public static final int DEFAULT_FAN_IN = 64;
+	/** Size of the read buffer of each run and of the write buffer. */
+	private static final int IO_BUFFER_BYTES = 1 << 18;
+	
+	private final int chunkSize;
+	private final int fanIn;
+	private final Path tempDirectory;
+	private final MergeSort chunkSorter = new MergeSort();
+	
+	/**
+	 * Instantiates an external sort with default chunk size and fan-in, spilling runs to java.io.tmpdir.
+	 */
+	public ExternalMergeSort(){
+		this(DEFAULT_CHUNK_SIZE, DEFAULT_FAN_IN, Paths.get(System.getProperty("java.io.tmpdir")));
+	}
+	
+	/**
+	 * Instantiates an external sort.
+	 *
+	 * @param chunkSize number of ints sorted in memory per run.
+	 * @param fanIn number of runs merged at once, at least 2.
+	 * @param tempDirectory directory for the run files.
+	 */
+	public ExternalMergeSort(int chunkSize, int fanIn, Path tempDirectory){
+		if(chunkSize < 1)
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		if(fanIn < 2)
+			throw new IllegalArgumentException("fanIn must be at least 2: " + fanIn);
+		this.chunkSize = chunkSize;
+		this.fanIn = fanIn;
+		this.tempDirectory = tempDirectory;
+	}
+	
+	/**
+	 * Sort the ints of the input file into the output file. The input file is not modified.
+	 *
+	 * @param input the input file.
+	 * @param output the output file, created or replaced.
+	 * @throws IOException if a file cannot be read or written, or the input length is not a multiple of 4.
+	 */
+	public void sort(Path input, Path output) throws IOException{
+		List<Path> runs = createRuns(input);
+		try{
+			//Merge groups of runs into longer runs until one merge pass is enough.
+			while(runs.size() > fanIn){
+				List<Path> nextRuns = new ArrayList<Path>();
+				try{
+					for(int i = 0; i < runs.size(); i += fanIn){
+						List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+						Path run = Files.createTempFile(tempDirectory, "run", ".bin");
+						nextRuns.add(run);
+						mergeRuns(group, run);
+					}
+				}
+				catch(IOException e){
+					for(Path p : nextRuns)
+						Files.deleteIfExists(p);
+					throw e;
+				}
+				for(Path p : runs)
+					Files.delete(p);
+				runs = nextRuns;
+			}
+			mergeRuns(runs, output);
+		}
+		finally{
+			for(Path p : runs)
+				Files.deleteIfExists(p);
+		}
+	}
+	
+	/**
+	 * Read the input chunk by chunk, sort each chunk and write it to its own run file.
+	 *
+	 * @param input the input file
+	 * @return the run files
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private List<Path> createRuns(Path input) throws IOException{
+		List<Path> runs = new ArrayList<Path>();
+		FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+		try{
+			long size = channel.size();
+			if(size % 4 != 0)
+				throw new IOException(input + " length " + size + " is not a multiple of 4");
+			long count = size / 4;
+			int[] chunk = new int[(int)Math.min(chunkSize, count)];
+			int[] buffer = new int[chunk.length];
+			for(long position = 0; position < count; position += chunkSize){
+				int length = (int)Math.min(chunkSize, count - position);
+				MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position * 4, (long)length * 4);
+				region.asIntBuffer().get(chunk, 0, length);
+				chunkSorter.sort(chunk, 0, length, buffer);
+				
+				Path run = Files.createTempFile(tempDirectory, "run", ".bin");
+				runs.add(run);
+				RunWriter writer = new RunWriter(run);
+				try{
+					writer.write(chunk, 0, length);
+				}
+				finally{
+					writer.close();
+				}
+			}
+		}
+		catch(IOException e){
+			for(Path p : runs)
+				Files.deleteIfExists(p);
+			throw e;
+		}
+		finally{
+			channel.close();
+		}
+		return runs;
+	}
+	
+	/**
+	 * K-way merge of sorted runs into the output file, through KWayMerge.
+	 *
+	 * @param runs the sorted run files
+	 * @param output the output file
+	 * @throws IOException Signals that an I/O exception has occurred.
+	 */
+	private void mergeRuns(List<Path> runs, Path output) throws IOException{
+		//Both are closed even if closing the other one fails, so no run file is left open.
+		try(KWayMerge merge = KWayMerge.ofFiles(runs); RunWriter writer = new RunWriter(output)){
+			while(merge.hasNext())
+				writer.write(merge.nextInt());
+		}
+		catch(UncheckedIOException e){
+			throw e.getCause();
+		}
+	}
+	
+	/**
+	 * Sequential reader of the ints of a file through a large direct buffer.
+	 */
+	static class RunReader implements Closeable{
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+		private boolean endOfFile = false;
+		
+		RunReader(Path file) throws IOException{
+			channel = FileChannel.open(file, StandardOpenOption.READ);
+			buffer.limit(0);
+		}
+		
+		/**
+		 * Check if there is another int to read.
+		 *
+		 * @return true if next() can be called.
+		 * @throws IOException Signals that an I/O exception has occurred.
+		 */
+		boolean hasNext() throws IOException{
+			if(buffer.remaining() >= 4)
+				return true;
+			//Refill the buffer, keeping any partial int that is left.
+			buffer.compact();
+			while(!endOfFile && buffer.hasRemaining()){
+				if(channel.read(buffer) < 0)
+					endOfFile = true;
+			}
+			buffer.flip();
+			if(endOfFile && buffer.remaining() > 0 && buffer.remaining() < 4)
+				throw new IOException("file length is not a multiple of 4");
+			return buffer.remaining() >= 4;
+		}
+		
+		/**
+		 * Read the next int. Only valid after hasNext() returned true.
+		 *
+		 * @return the value
+		 */
+		int next(){
+			return buffer.getInt();
+		}
+		
+		@Override
+		public void close() throws IOException{
+			channel.close();
+		}
+	}
+	
+	/**
+	 * Sequential writer of ints to a file through a large direct buffer.
+	 */
+	static class RunWriter implements Closeable{
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+		private final IntBuffer intBuffer = buffer.asIntBuffer();
+		
+		RunWriter(Path file) throws IOException{
+			channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+		}
+		
+		/**
+		 * Write one int.
+		 */
+		void write(int value) throws IOException{
+			if(!intBuffer.hasRemaining())
+				flush();
+			intBuffer.put(value);
+		}
+		
+		/**
+		 * Write length ints of the array starting at offset.
+		 */
+		void write(int[] array, int offset, int length) throws IOException{
+			while(length > 0){
+				if(!intBuffer.hasRemaining())
+					flush();
+				int n = Math.min(length, intBuffer.remaining());
+				intBuffer.put(array, offset, n);
+				offset += n;
+				length -= n;
+			}
+		}
+		
+		/**
+		 * Write the buffered ints to the file.
+		 */
+		private void flush() throws IOException{
+			buffer.position(0);
+			buffer.limit(intBuffer.position() * 4);
+			while(buffer.hasRemaining())
+				channel.write(buffer);
+			buffer.clear();
+			intBuffer.clear();
+		}
+		
+		@Override
+		public void close() throws IOException{
+			try{
+				flush();
+			}
+			finally{
+				channel.close();
+			}
+		}
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args) throws IOException{
+		System.out.println("External Merge Sort:");
+		Path input = Files.createTempFile("input", ".bin");
+		Path output = Files.createTempFile("output", ".bin");
+		try{
+			//Write 1 million random ints, then sort them with small chunks so several merge passes are needed.
+			int count = 1000000;
+			Random rndGen = new Random();
+			RunWriter writer = new RunWriter(input);
+			for(int i = 0; i < count; i++)
+				writer.write(rndGen.nextInt());
+			writer.close();
+			
+			ExternalMergeSort sorter = new ExternalMergeSort(1 << 14, 8, input.getParent());
+			sorter.sort(input, output);
+			
+			RunReader reader = new RunReader(output);
+			int read = 0;
+			boolean sorted = true;
+			int previous = Integer.MIN_VALUE;
+			while(reader.hasNext()){
+				int value = reader.next();
+				if(value < previous)
+					sorted = false;
+				previous = value;
+				read++;
+			}
+			reader.close();
+			System.out.println("Read " + read + " of " + count + " ints, sorted: " + sorted);
+		}
+		finally{
+			Files.deleteIfExists(input);
+			Files.deleteIfExists(output);
+		}
+	}
+}
@@ -0,0 +1,332 @@
+package Sorting;
+
+/** Argsort and key/value co-sorting on primitive arrays, without boxing.
+ *  argsort returns the permutation that sorts a key array (stable: equal keys keep their index order).
+ *  sort co-permutes the keys and any number of payload arrays in place, following the cycles of that permutation.
+ *  double keys follow Double.compare order: -0.0 before 0.0 and NaN last.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class IndexSort {
+	/** Size of the runs that are insertion sorted before the first merge pass. */
+	private static final int INSERTION_RUN = 32;
+	
+	private IndexSort(){
+	}
+	
+	/**
+	 * Return the permutation that sorts keys: keys[p[0]] <= keys[p[1]] <= ... The keys are not modified.
+	 *
+	 * @param keys the keys
+	 * @return the permutation
+	 */
+	public static int[] argsort(int[] keys){
+		int n = keys.length;
+		int[] index = identity(n);
+		int[] buffer = new int[n];
+		for(int i = 0; i < n; i += INSERTION_RUN)
+			insertionSort(keys, index, i, Math.min(i + INSERTION_RUN, n));
+		
+		int[] source = index;
+		int[] result = buffer;
+		for(long width = INSERTION_RUN; width < n; width <<= 1){
+			for(long position = 0; position < n; position += width << 1){
+				int middle = (int)Math.min(position + width, n);
+				int last = (int)Math.min(position + (width << 1), n);
+				merge(keys, source, (int)position, middle, last, result);
+			}
+			int[] tempArray = source;
+			source = result;
+			result = tempArray;
+		}
+		return source;
+	}
+	
+	/**
+	 * Return the permutation that sorts keys: keys[p[0]] <= keys[p[1]] <= ... The keys are not modified.
+	 *
+	 * @param keys the keys
+	 * @return the permutation
+	 */
+	public static int[] argsort(long[] keys){
+		int n = keys.length;
+		int[] index = identity(n);
+		int[] buffer = new int[n];
+		for(int i = 0; i < n; i += INSERTION_RUN)
+			insertionSort(keys, index, i, Math.min(i + INSERTION_RUN, n));
+		
+		int[] source = index;
+		int[] result = buffer;
+		for(long width = INSERTION_RUN; width < n; width <<= 1){
+			for(long position = 0; position < n; position += width << 1){
+				int middle = (int)Math.min(position + width, n);
+				int last = (int)Math.min(position + (width << 1), n);
+				merge(keys, source, (int)position, middle, last, result);
+			}
+			int[] tempArray = source;
+			source = result;
+			result = tempArray;
+		}
+		return source;
+	}
+	
+	/**
+	 * Return the permutation that sorts keys in Double.compare order. The keys are not modified.
+	 *
+	 * @param keys the keys
+	 * @return the permutation
+	 */
+	public static int[] argsort(double[] keys){
+		long[] sortable = new long[keys.length];
+		for(int i = 0; i < keys.length; i++)
+			sortable[i] = sortableBits(keys[i]);
+		return argsort(sortable);
+	}
+	
+	/**
+	 * Sort keys in place and move the elements of every payload array the same way.
+	 *
+	 * @param keys the keys
+	 * @param payloads arrays of the same length as keys
+	 * @throws IllegalArgumentException if a payload length differs from the keys length, before anything is moved
+	 */
+	public static void sort(int[] keys, int[]... payloads){
+		checkPayloads(keys.length, payloads);
+		int[] permutation = argsort(keys);
+		apply(permutation, keys);
+		for(int[] payload : payloads)
+			apply(permutation, payload);
+	}
+	
+	/**
+	 * Sort keys in place and move the elements of every payload array the same way.
+	 *
+	 * @param keys the keys
+	 * @param payloads arrays of the same length as keys
+	 * @throws IllegalArgumentException if a payload length differs from the keys length, before anything is moved
+	 */
+	public static void sort(long[] keys, int[]... payloads){
+		checkPayloads(keys.length, payloads);
+		int[] permutation = argsort(keys);
+		apply(permutation, keys);
+		for(int[] payload : payloads)
+			apply(permutation, payload);
+	}
+	
+	/**
+	 * Sort keys in place and move the elements of every payload array the same way.
+	 *
+	 * @param keys the keys
+	 * @param payloads arrays of the same length as keys
+	 * @throws IllegalArgumentException if a payload length differs from the keys length, before anything is moved
+	 */
+	public static void sort(double[] keys, int[]... payloads){
+		checkPayloads(keys.length, payloads);
+		int[] permutation = argsort(keys);
+		apply(permutation, keys);
+		for(int[] payload : payloads)
+			apply(permutation, payload);
+	}
+	
+	/**
+	 * Rearrange array in place so that array[i] becomes the old array[permutation[i]].
+	 * Each cycle of the permutation is followed once. Visited positions are marked by flipping the
+	 * sign bit of the permutation entry, and restored at the end, so nothing is allocated.
+	 *
+	 * @param permutation a permutation of 0 .. array.length - 1, unchanged on return
+	 * @param array the array to rearrange
+	 */
+	public static void apply(int[] permutation, int[] array){
+		checkLength(permutation, array.length);
+		for(int start = 0; start < permutation.length; start++){
+			if(permutation[start] < 0)
+				continue;
+			int first = array[start];
+			int i = start;
+			int next = permutation[i];
+			while(next != start){
+				array[i] = array[next];
+				permutation[i] = ~next;
+				i = next;
+				next = permutation[i];
+			}
+			array[i] = first;
+			permutation[i] = ~next;
+		}
+		restore(permutation);
+	}
+	
+	/**
+	 * Rearrange array in place so that array[i] becomes the old array[permutation[i]].
+	 *
+	 * @param permutation a permutation of 0 .. array.length - 1, unchanged on return
+	 * @param array the array to rearrange
+	 */
+	public static void apply(int[] permutation, long[] array){
+		checkLength(permutation, array.length);
+		for(int start = 0; start < permutation.length; start++){
+			if(permutation[start] < 0)
+				continue;
+			long first = array[start];
+			int i = start;
+			int next = permutation[i];
+			while(next != start){
+				array[i] = array[next];
+				permutation[i] = ~next;
+				i = next;
+				next = permutation[i];
+			}
+			array[i] = first;
+			permutation[i] = ~next;
+		}
+		restore(permutation);
+	}
+	
+	/**
+	 * Rearrange array in place so that array[i] becomes the old array[permutation[i]].
+	 *
+	 * @param permutation a permutation of 0 .. array.length - 1, unchanged on return
+	 * @param array the array to rearrange
+	 */
+	public static void apply(int[] permutation, double[] array){
+		checkLength(permutation, array.length);
+		for(int start = 0; start < permutation.length; start++){
+			if(permutation[start] < 0)
+				continue;
+			double first = array[start];
+			int i = start;
+			int next = permutation[i];
+			while(next != start){
+				array[i] = array[next];
+				permutation[i] = ~next;
+				i = next;
+				next = permutation[i];
+			}
+			array[i] = first;
+			permutation[i] = ~next;
+		}
+		restore(permutation);
+	}
+	
+	/**SOME UTILITY FUNCTIONS*/
+	
+	/**
+	 * Map a double to a long whose signed order is the Double.compare order.
+	 */
+	static long sortableBits(double value){
+		long bits = Double.doubleToLongBits(value);
+		return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+	}
+	
+	private static int[] identity(int n){
+		int[] index = new int[n];
+		for(int i = 0; i < n; i++)
+			index[i] = i;
+		return index;
+	}
+	
+	private static void checkPayloads(int length, int[][] payloads){
+		for(int i = 0; i < payloads.length; i++){
+			if(payloads[i].length != length)
+				throw new IllegalArgumentException("payload " + i + " length " + payloads[i].length + " does not match keys length " + length);
+		}
+	}
+	
+	private static void checkLength(int[] permutation, int length){
+		if(permutation.length != length)
+			throw new IllegalArgumentException("permutation length " + permutation.length + " does not match array length " + length);
+	}
+	
+	/**
+	 * Undo the sign flips made while following cycles.
+	 */
+	private static void restore(int[] permutation){
+		for(int i = 0; i < permutation.length; i++)
+			permutation[i] = ~permutation[i];
+	}
+	
+	/**
+	 * Stable insertion sort of index[from, to) by keys.
+	 */
+	private static void insertionSort(int[] keys, int[] index, int from, int to){
+		for(int i = from + 1; i < to; i++){
+			int current = index[i];
+			int key = keys[current];
+			int j = i - 1;
+			while(j >= from && keys[index[j]] > key){
+				index[j + 1] = index[j];
+				j--;
+			}
+			index[j + 1] = current;
+		}
+	}
+	
+	/**
+	 * Stable insertion sort of index[from, to) by keys.
+	 */
+	private static void insertionSort(long[] keys, int[] index, int from, int to){
+		for(int i = from + 1; i < to; i++){
+			int current = index[i];
+			long key = keys[current];
+			int j = i - 1;
+			while(j >= from && keys[index[j]] > key){
+				index[j + 1] = index[j];
+				j--;
+			}
+			index[j + 1] = current;
+		}
+	}
+	
+	/**
+	 * Merge index[start, middle) and index[middle, end) by keys into result[start, end), same loop as MergeSort.doMerge.
+	 */
+	private static void merge(int[] keys, int[] index, int start, int middle, int end, int[] result){
+		int i = start;
+		int j = middle;
+		int k = start;
+		while(i < middle && j < end){
+			if(keys[index[i]] <= keys[index[j]])
+				result[k++] = index[i++];
+			else
+				result[k++] = index[j++];
+		}
+		System.arraycopy(index, i, result, k, middle - i);
+		System.arraycopy(index, j, result, k + middle - i, end - j);
+	}
+	
+	/**
+	 * Merge index[start, middle) and index[middle, end) by keys into result[start, end), same loop as MergeSort.doMerge.
+	 */
+	private static void merge(long[] keys, int[] index, int start, int middle, int end, int[] result){
+		int i = start;
+		int j = middle;
+		int k = start;
+		while(i < middle && j < end){
+			if(keys[index[i]] <= keys[index[j]])
+				result[k++] = index[i++];
+			else
+				result[k++] = index[j++];
+		}
+		System.arraycopy(index, i, result, k, middle - i);
+		System.arraycopy(index, j, result, k + middle - i, end - j);
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		long[] keys = {30, 10, 20, 10, 50};
+		int[] ids = {0, 1, 2, 3, 4};
+		int[] counts = {300, 100, 200, 101, 500};
+		System.out.print("Argsort:");
+		for(int i : argsort(keys))
+			System.out.print(" " + i);
+		System.out.println();
+		
+		sort(keys, ids, counts);
+		System.out.print("Co-sorted (key, id, count):");
+		for(int i = 0; i < keys.length; i++)
+			System.out.print(" (" + keys[i] + ", " + ids[i] + ", " + counts[i] + ")");
+		System.out.println();
+	}
+}
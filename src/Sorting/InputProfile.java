@@ -0,0 +1,138 @@
+package Sorting;
+
+/** Estimate of how an int[] slice is laid out, taken from a small evenly spaced sample so it costs a few hundred
+ *  reads whatever the input size. Used by SortDispatcher to pick an algorithm, and kept by it so the choice
+ *  can be audited. All fields except the length are estimates.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public final class InputProfile {
+	/** Most neighbour pairs compared to estimate runs. */
+	private static final int MAX_PAIRS = 256;
+	/** Most elements sampled to estimate inversions, range and duplicates. */
+	private static final int MAX_SAMPLES = 64;
+	
+	private final int length;
+	private final int pairs;
+	private final int ascents;
+	private final int descents;
+	private final double inversionRatio;
+	private final int min;
+	private final int max;
+	private final double duplicateRatio;
+	
+	private InputProfile(int length, int pairs, int ascents, int descents, double inversionRatio,
+			int min, int max, double duplicateRatio){
+		this.length = length;
+		this.pairs = pairs;
+		this.ascents = ascents;
+		this.descents = descents;
+		this.inversionRatio = inversionRatio;
+		this.min = min;
+		this.max = max;
+		this.duplicateRatio = duplicateRatio;
+	}
+	
+	/**
+	 * Sample length elements of the array starting at offset. The array is not modified.
+	 *
+	 * @param array the array
+	 * @param offset index of the first element
+	 * @param length number of elements
+	 * @return the profile
+	 */
+	public static InputProfile of(int[] array, int offset, int length){
+		Sorting.checkRange(array, offset, length);
+		if(length < 2)
+			return new InputProfile(length, 0, 0, 0, 0, length == 0 ? 0 : array[offset], length == 0 ? 0 : array[offset], 0);
+		
+		//Compare neighbours at evenly spaced positions: the share of descents estimates the number of runs.
+		int pairs = Math.min(length - 1, Math.max(1, Math.min(MAX_PAIRS, length >>> 2)));
+		int ascents = 0;
+		int descents = 0;
+		for(int i = 0; i < pairs; i++){
+			int position = offset + (int)((long)i * (length - 1) / pairs);
+			if(array[position] < array[position + 1])
+				ascents++;
+			else if(array[position] > array[position + 1])
+				descents++;
+		}
+		
+		//Inversions between evenly spaced elements, kept in input order.
+		int samples = Math.min(length, Math.max(2, Math.min(MAX_SAMPLES, length >>> 4)));
+		int[] sample = new int[samples];
+		for(int i = 0; i < samples; i++)
+			sample[i] = array[offset + (int)((long)i * (length - 1) / (samples - 1))];
+		long inversions = 0;
+		for(int i = 0; i < samples; i++){
+			for(int j = i + 1; j < samples; j++){
+				if(sample[i] > sample[j])
+					inversions++;
+			}
+		}
+		double inversionRatio = inversions / (samples * (samples - 1) / 2.0);
+		
+		//Range and duplicates of the sorted sample.
+		QuickSort.quickSort(sample, 0, samples);
+		int duplicates = 0;
+		for(int i = 1; i < samples; i++){
+			if(sample[i] == sample[i - 1])
+				duplicates++;
+		}
+		return new InputProfile(length, pairs, ascents, descents, inversionRatio,
+				sample[0], sample[samples - 1], duplicates / (double)(samples - 1));
+	}
+	
+	/** @return number of elements */
+	public int getLength(){
+		return length;
+	}
+	
+	/** @return estimated number of ascending runs, 1 for sorted input */
+	public long getEstimatedRuns(){
+		return pairs == 0 ? 1 : 1 + Math.round((double)descents / pairs * (length - 1));
+	}
+	
+	/** @return share of sampled neighbour pairs in strictly ascending order */
+	public double getAscentRatio(){
+		return pairs == 0 ? 0 : (double)ascents / pairs;
+	}
+	
+	/** @return share of sampled neighbour pairs in strictly descending order */
+	public double getDescentRatio(){
+		return pairs == 0 ? 0 : (double)descents / pairs;
+	}
+	
+	/** @return share of sampled element pairs that are inverted: 0 for sorted input, about 0.5 for random input, 1 for reversed input */
+	public double getInversionRatio(){
+		return inversionRatio;
+	}
+	
+	/** @return smallest sampled value */
+	public int getMin(){
+		return min;
+	}
+	
+	/** @return largest sampled value */
+	public int getMax(){
+		return max;
+	}
+	
+	/** @return max - min + 1 of the sample, a lower bound of the real range */
+	public long getRange(){
+		return (long)max - min + 1;
+	}
+	
+	/** @return share of sampled values equal to another sampled value */
+	public double getDuplicateRatio(){
+		return duplicateRatio;
+	}
+	
+	@Override
+	public String toString(){
+		return "n=" + length + " runs~" + getEstimatedRuns() + String.format(" inversions~%.3f", inversionRatio)
+				+ " range~" + getRange() + String.format(" duplicates~%.3f", duplicateRatio);
+	}
+}
@@ -11,16 +11,34 @@ public class InsertionSort extends Sorting{
 		super(sizeOfArray);
 	}
 	
+	public InsertionSort(){
+		super();
+	}
+	
 	//Implement insertion sort
 	@Override
-	public void doSort(){
-		int[] tempArray = this.getArray();
-		for(int i = 1; i < tempArray.length; i++){
+	public void sort(int[] array, int offset, int length){
+		checkRange(array, offset, length);
+		insertionSort(array, offset, offset + length);
+	}
+	
+	/**
+	 * Insertion sort on the range [fromIndex, toIndex) of the array.
+	 *
+	 * @param tempArray the array
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex the last index (exclusive)
+	 */
+	static void insertionSort(int[] tempArray, int fromIndex, int toIndex){
+		long comparisons = 0;
+		long moves = 0;
+		for(int i = fromIndex + 1; i < toIndex; i++){
 			int value = tempArray[i];
 			boolean done = false;
 			int j = i - 1;
-			while(j >= 0 && !done){
+			while(j >= fromIndex && !done){
 				int compareValue = tempArray[j];
+				comparisons++;
 				if(value > compareValue){
 					done = true;				
 				}
@@ -28,11 +46,46 @@ public class InsertionSort extends Sorting{
 				{
 					tempArray[j] = value;
 					tempArray[j + 1] = compareValue;
+					moves += 2;
 				}
 				j--;
 			}
 		}
-		this.setArray(tempArray);
+		SortCounters.count(comparisons, moves);
+	}
+	
+	/**
+	 * Binary insertion sort on the range [fromIndex, toIndex) of the array, where [fromIndex, start) is already sorted.
+	 * The insert position is found by binary search, after the last equal element so the sort stays stable,
+	 * and the larger elements are shifted with one arraycopy.
+	 *
+	 * @param tempArray the array
+	 * @param fromIndex the first index (inclusive)
+	 * @param start the first index that is not sorted yet
+	 * @param toIndex the last index (exclusive)
+	 */
+	static void binaryInsertionSort(int[] tempArray, int fromIndex, int start, int toIndex){
+		if(start == fromIndex)
+			start++;
+		long comparisons = 0;
+		long moves = 0;
+		for(int i = start; i < toIndex; i++){
+			int value = tempArray[i];
+			int left = fromIndex;
+			int right = i;
+			while(left < right){
+				int middle = (left + right) >>> 1;
+				comparisons++;
+				if(value < tempArray[middle])
+					right = middle;
+				else
+					left = middle + 1;
+			}
+			System.arraycopy(tempArray, left, tempArray, left + 1, i - left);
+			tempArray[left] = value;
+			moves += i - left + 1;
+		}
+		SortCounters.count(comparisons, moves);
 	}
 	
 	//TESTING
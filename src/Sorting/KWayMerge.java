@@ -0,0 +1,315 @@
+package Sorting;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/** Streaming merge of k sorted int sources, the k-way version of MergeSort.doMerge.
+ *  Sources are int[], IntStream, iterators or files of big-endian ints, each already sorted. The merged values
+ *  are pulled one at a time, so the output is never materialized. A loser tree picks the next value:
+ *  each internal node keeps the source that lost the match played there, so replacing the winner only replays
+ *  the matches on its path to the root, about log2(k) comparisons per value.
+ *  With distinct() equal values are returned once.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public final class KWayMerge implements PrimitiveIterator.OfInt, Closeable {
+	private final PrimitiveIterator.OfInt[] sources;
+	private final List<Closeable> resources;
+	//Current value of each source, valid while the source is not exhausted.
+	private final int[] values;
+	private final boolean[] exhausted;
+	//tree[0] is the overall winner, tree[1, k) the loser of each match. Leaf k stands for minus infinity while building.
+	private final int[] tree;
+	private boolean distinct = false;
+	private boolean started = false;
+	
+	private KWayMerge(PrimitiveIterator.OfInt[] sources, List<Closeable> resources){
+		this.sources = sources;
+		this.resources = resources;
+		int k = sources.length;
+		values = new int[k];
+		exhausted = new boolean[k];
+		tree = new int[Math.max(k, 1)];
+	}
+	
+	/**
+	 * Merge sorted arrays.
+	 *
+	 * @param arrays the sorted arrays, not modified
+	 * @return the merge
+	 */
+	public static KWayMerge of(int[]... arrays){
+		PrimitiveIterator.OfInt[] sources = new PrimitiveIterator.OfInt[arrays.length];
+		for(int i = 0; i < arrays.length; i++)
+			sources[i] = new ArrayIterator(arrays[i]);
+		return new KWayMerge(sources, new ArrayList<Closeable>());
+	}
+	
+	/**
+	 * Merge sorted streams. Closing the merge closes the streams.
+	 *
+	 * @param streams the sorted streams
+	 * @return the merge
+	 */
+	public static KWayMerge of(IntStream... streams){
+		final IntStream[] opened = streams.clone();
+		PrimitiveIterator.OfInt[] sources = new PrimitiveIterator.OfInt[opened.length];
+		for(int i = 0; i < opened.length; i++)
+			sources[i] = opened[i].iterator();
+		List<Closeable> resources = new ArrayList<Closeable>();
+		resources.add(new Closeable(){
+			@Override
+			public void close(){
+				for(IntStream stream : opened)
+					stream.close();
+			}
+		});
+		return new KWayMerge(sources, resources);
+	}
+	
+	/**
+	 * Merge sorted iterators.
+	 *
+	 * @param iterators the sorted iterators
+	 * @return the merge
+	 */
+	public static KWayMerge of(PrimitiveIterator.OfInt... iterators){
+		return new KWayMerge(iterators.clone(), new ArrayList<Closeable>());
+	}
+	
+	/**
+	 * Merge sorted files of big-endian ints, the format of ExternalMergeSort. Close the merge to close the files.
+	 * Read errors during the merge are thrown as UncheckedIOException.
+	 *
+	 * @param files the sorted files
+	 * @return the merge
+	 * @throws IOException if a file cannot be opened.
+	 */
+	public static KWayMerge ofFiles(List<Path> files) throws IOException{
+		PrimitiveIterator.OfInt[] sources = new PrimitiveIterator.OfInt[files.size()];
+		List<Closeable> resources = new ArrayList<Closeable>();
+		try{
+			for(int i = 0; i < sources.length; i++){
+				ExternalMergeSort.RunReader reader = new ExternalMergeSort.RunReader(files.get(i));
+				resources.add(reader);
+				sources[i] = new FileIterator(reader);
+			}
+		}
+		catch(IOException e){
+			for(Closeable resource : resources)
+				resource.close();
+			throw e;
+		}
+		return new KWayMerge(sources, resources);
+	}
+	
+	/**
+	 * Return each value once, dropping repeats within and across sources. Must be called before the first value is read.
+	 *
+	 * @return this merge
+	 */
+	public KWayMerge distinct(){
+		if(started)
+			throw new IllegalStateException("merge already started");
+		distinct = true;
+		return this;
+	}
+	
+	/**
+	 * Return the rest of the merge as a sequential IntStream. Closing the stream closes the merge.
+	 *
+	 * @return the stream
+	 */
+	public IntStream stream(){
+		int characteristics = Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL;
+		if(distinct)
+			characteristics |= Spliterator.DISTINCT;
+		return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(this, characteristics), false)
+				.onClose(new Runnable(){
+					@Override
+					public void run(){
+						try{
+							close();
+						}
+						catch(IOException e){
+							throw new UncheckedIOException(e);
+						}
+					}
+				});
+	}
+	
+	@Override
+	public boolean hasNext(){
+		start();
+		return sources.length > 0 && !exhausted[tree[0]];
+	}
+	
+	@Override
+	public int nextInt(){
+		if(!hasNext())
+			throw new NoSuchElementException();
+		int winner = tree[0];
+		int value = values[winner];
+		advance(winner);
+		replay(winner);
+		if(distinct){
+			while(!exhausted[tree[0]] && values[tree[0]] == value){
+				winner = tree[0];
+				advance(winner);
+				replay(winner);
+			}
+		}
+		return value;
+	}
+	
+	@Override
+	public void close() throws IOException{
+		IOException failure = null;
+		for(Closeable resource : resources){
+			try{
+				resource.close();
+			}
+			catch(IOException e){
+				if(failure == null)
+					failure = e;
+			}
+		}
+		if(failure != null)
+			throw failure;
+	}
+	
+	/**
+	 * Read the first value of every source and build the tree, on the first call only.
+	 */
+	private void start(){
+		if(started)
+			return;
+		started = true;
+		int k = sources.length;
+		for(int i = 0; i < k; i++)
+			advance(i);
+		//Start from a tree full of minus infinity leaves: each real leaf replayed pushes one of them up and out.
+		for(int i = 0; i < tree.length; i++)
+			tree[i] = k;
+		for(int i = k - 1; i >= 0; i--)
+			replay(i);
+	}
+	
+	/**
+	 * Move source to its next value, or mark it exhausted.
+	 */
+	private void advance(int source){
+		if(sources[source].hasNext())
+			values[source] = sources[source].nextInt();
+		else
+			exhausted[source] = true;
+	}
+	
+	/**
+	 * Replay the matches from the leaf of source up to the root after its value changed.
+	 */
+	private void replay(int source){
+		int winner = source;
+		for(int node = (source + sources.length) >>> 1; node > 0; node >>>= 1){
+			if(beats(tree[node], winner)){
+				int loser = winner;
+				winner = tree[node];
+				tree[node] = loser;
+			}
+		}
+		tree[0] = winner;
+	}
+	
+	/**
+	 * Check if source a comes before source b. Exhausted sources come last, the minus infinity leaf first.
+	 */
+	private boolean beats(int a, int b){
+		int k = sources.length;
+		if(a == k)
+			return true;
+		if(b == k || exhausted[a])
+			return false;
+		if(exhausted[b])
+			return true;
+		return values[a] < values[b] || (values[a] == values[b] && a < b);
+	}
+	
+	/**
+	 * Iterator over an int[].
+	 */
+	private static class ArrayIterator implements PrimitiveIterator.OfInt{
+		private final int[] array;
+		private int index = 0;
+		
+		ArrayIterator(int[] array){
+			this.array = array;
+		}
+		
+		@Override
+		public boolean hasNext(){
+			return index < array.length;
+		}
+		
+		@Override
+		public int nextInt(){
+			if(index >= array.length)
+				throw new NoSuchElementException();
+			return array[index++];
+		}
+	}
+	
+	/**
+	 * Iterator over the ints of a file.
+	 */
+	private static class FileIterator implements PrimitiveIterator.OfInt{
+		private final ExternalMergeSort.RunReader reader;
+		
+		FileIterator(ExternalMergeSort.RunReader reader){
+			this.reader = reader;
+		}
+		
+		@Override
+		public boolean hasNext(){
+			try{
+				return reader.hasNext();
+			}
+			catch(IOException e){
+				throw new UncheckedIOException(e);
+			}
+		}
+		
+		@Override
+		public int nextInt(){
+			if(!hasNext())
+				throw new NoSuchElementException();
+			return reader.next();
+		}
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		System.out.println("K-way Merge:");
+		KWayMerge merge = KWayMerge.of(new int[]{1, 4, 7, 10}, new int[]{2, 4, 8}, new int[]{}, new int[]{0, 4, 9, 11, 12});
+		StringBuilder line = new StringBuilder();
+		while(merge.hasNext())
+			line.append(merge.nextInt()).append(' ');
+		System.out.println(line);
+		
+		merge = KWayMerge.of(new int[]{1, 4, 7, 10}, new int[]{2, 4, 8}, new int[]{}, new int[]{0, 4, 9, 11, 12}).distinct();
+		line.setLength(0);
+		while(merge.hasNext())
+			line.append(merge.nextInt()).append(' ');
+		System.out.println(line);
+	}
+}
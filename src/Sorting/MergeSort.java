@@ -1,4 +1,6 @@
 package Sorting;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /** Merge Sort algorithm implementation
  * 
@@ -7,65 +9,270 @@ package Sorting;
  *
  */
 public class MergeSort extends Sorting{
+	/** Default size below which the parallel sort stops splitting into new tasks. */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+	/** Size of the runs that are sorted by a sorting network before the first merge pass. */
+	private static final int INITIAL_RUN = SortingNetworks.MAX_SIZE;
+	
+	//Scratch buffer reused across calls on this instance. It only grows.
+	private int[] scratch = new int[0];
+	
 	public MergeSort(int sizeOfArray){
 		super(sizeOfArray);
 	}
 	
+	public MergeSort(){
+		super();
+	}
+	
 	//Implement Merge Sort
 	@Override
-	public void doSort(){
-		int[] tempArray = this.getArray();
-		tempArray = mergeSort(tempArray);
-		this.setArray(tempArray);
+	public void sort(int[] array, int offset, int length){
+		checkRange(array, offset, length);
+		sort(array, offset, length, getScratch(length));
 	}
 	
 	/**
-	 * Divine part of the algorithm
+	 * Sort a slice of the array using the caller's buffer as the only auxiliary storage.
+	 * The same buffer can be passed again on later calls, so repeated sorts allocate nothing.
 	 *
-	 * @param inputArray the input array
-	 * @return int[] divided array.
+	 * @param array the array to sort.
+	 * @param offset index of the first element to sort.
+	 * @param length number of elements to sort.
+	 * @param buffer scratch array holding at least length elements. Its content is overwritten.
 	 */
-	private int[] mergeSort(int[] inputArray){
-		if(inputArray.length <= 1)
-			return inputArray;
-		else
-		{
-			int arraySize = inputArray.length;
-			int[] unsortedSequence1 = new int[arraySize / 2];
-			int[] unsortedSequence2 = new int[arraySize - arraySize / 2];
-			for(int i = 0; i < arraySize / 2; i++)
-				unsortedSequence1[i] = inputArray[i];
+	public void sort(int[] array, int offset, int length, int[] buffer){
+		checkRange(array, offset, length);
+		if(buffer.length < length)
+			throw new IllegalArgumentException("buffer holds " + buffer.length + " elements, need " + length);
+		mergeSort(array, offset, offset + length, buffer, 0);
+	}
+	
+	/**
+	 * Return the instance scratch buffer, grown to hold at least length elements.
+	 *
+	 * @param length the length
+	 * @return the scratch buffer
+	 */
+	private int[] getScratch(int length){
+		if(scratch.length < length)
+			scratch = new int[length];
+		return scratch;
+	}
+	
+	/**
+	 * Sort the whole array in parallel on the common ForkJoinPool with the default threshold.
+	 *
+	 * @param array the array to sort.
+	 */
+	public void parallelSort(int[] array){
+		parallelSort(array, 0, array.length, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Sort a slice of the array in parallel. Both the recursion and the merge step are split into
+	 * fork/join tasks until a task holds no more than threshold elements, then it runs sequentially.
+	 *
+	 * @param array the array to sort.
+	 * @param offset index of the first element to sort.
+	 * @param length number of elements to sort.
+	 * @param threshold task granularity, at least 2.
+	 * @param pool the pool that runs the tasks.
+	 */
+	public void parallelSort(int[] array, int offset, int length, int threshold, ForkJoinPool pool){
+		checkRange(array, offset, length);
+		if(threshold < 2)
+			throw new IllegalArgumentException("threshold must be at least 2: " + threshold);
+		if(length <= threshold){
+			sort(array, offset, length);
+			return;
+		}
+		int[] buffer = getScratch(length);
+		pool.invoke(new SortTask(array, buffer, offset, offset, offset + length, false, threshold));
+	}
+	
+	/**
+	 * Fork/join task that sorts the range [start, end) of array. The sorted result ends up in array,
+	 * or in the matching range of buffer when intoBuffer is set, so no level needs to copy back.
+	 */
+	private static class SortTask extends RecursiveAction{
+		private static final long serialVersionUID = 1L;
+		private final int[] array, buffer;
+		private final int bufferBase, start, end, threshold;
+		private final boolean intoBuffer;
+		
+		private SortTask(int[] array, int[] buffer, int bufferBase, int start, int end, boolean intoBuffer, int threshold){
+			this.array = array;
+			this.buffer = buffer;
+			this.bufferBase = bufferBase;
+			this.start = start;
+			this.end = end;
+			this.intoBuffer = intoBuffer;
+			this.threshold = threshold;
+		}
+		
+		@Override
+		protected void compute(){
+			if(end - start <= threshold){
+				mergeSort(array, start, end, buffer, start - bufferBase);
+				if(intoBuffer)
+					System.arraycopy(array, start, buffer, start - bufferBase, end - start);
+				return;
+			}
 			
-			int indexSequence2 = 0;
-			for(int i =  arraySize / 2; i <  arraySize; i++){
-				unsortedSequence2[indexSequence2] = inputArray[i];
-				indexSequence2++;
+			//Sort both halves into the other array, then merge them back into our target.
+			int middle = (start + end) >>> 1;
+			invokeAll(new SortTask(array, buffer, bufferBase, start, middle, !intoBuffer, threshold),
+					new SortTask(array, buffer, bufferBase, middle, end, !intoBuffer, threshold));
+			if(intoBuffer)
+				new MergeTask(array, start, middle, middle, end, buffer, start - bufferBase, threshold).compute();
+			else
+				new MergeTask(buffer, start - bufferBase, middle - bufferBase, middle - bufferBase, end - bufferBase, array, start, threshold).compute();
+		}
+	}
+	
+	/**
+	 * Fork/join task that merges 2 sorted ranges of source into result.
+	 * The larger range is cut at its middle value and the other range is cut at the same value by binary search,
+	 * so both pieces can be merged independently.
+	 */
+	private static class MergeTask extends RecursiveAction{
+		private static final long serialVersionUID = 1L;
+		private final int[] source, resultArray;
+		private final int start1, end1, start2, end2, indexOfResult, threshold;
+		
+		private MergeTask(int[] source, int start1, int end1, int start2, int end2, int[] resultArray, int indexOfResult, int threshold){
+			this.source = source;
+			this.start1 = start1;
+			this.end1 = end1;
+			this.start2 = start2;
+			this.end2 = end2;
+			this.resultArray = resultArray;
+			this.indexOfResult = indexOfResult;
+			this.threshold = threshold;
+		}
+		
+		@Override
+		protected void compute(){
+			int size1 = end1 - start1;
+			int size2 = end2 - start2;
+			if(size1 + size2 <= threshold){
+				doMerge(source, start1, end1, start2, end2, resultArray, indexOfResult);
+				return;
+			}
+			
+			//Equal values of range 1 must stay in front of range 2 to keep the merge stable.
+			int split1, split2;
+			if(size1 >= size2){
+				split1 = (start1 + end1) >>> 1;
+				split2 = lowerBound(source, start2, end2, source[split1]);
+			}
+			else
+			{
+				split2 = (start2 + end2) >>> 1;
+				split1 = upperBound(source, start1, end1, source[split2]);
 			}
-			int[] sortedSequence1 = mergeSort(unsortedSequence1);
-			int[] sortedSequence2 = mergeSort(unsortedSequence2);
-			return doMerge(sortedSequence1, sortedSequence2);
+			int splitResult = indexOfResult + (split1 - start1) + (split2 - start2);
+			invokeAll(new MergeTask(source, start1, split1, start2, split2, resultArray, indexOfResult, threshold),
+					new MergeTask(source, split1, end1, split2, end2, resultArray, splitResult, threshold));
+		}
+	}
+	
+	/**
+	 * Return the first index in [start, end) of a sorted range whose value is not less than key.
+	 */
+	static int lowerBound(int[] array, int start, int end, int key){
+		while(start < end){
+			int middle = (start + end) >>> 1;
+			if(array[middle] < key)
+				start = middle + 1;
+			else
+				end = middle;
 		}
+		return start;
 	}
 	
 	/**
-	 * Compare element in 2 lists then merge then together
+	 * Return the first index in [start, end) of a sorted range whose value is greater than key.
+	 */
+	static int upperBound(int[] array, int start, int end, int key){
+		while(start < end){
+			int middle = (start + end) >>> 1;
+			if(array[middle] <= key)
+				start = middle + 1;
+			else
+				end = middle;
+		}
+		return start;
+	}
+	
+	/**
+	 * Bottom-up merge sort of the range [start, end) of the input array.
+	 * Short runs are sorted by a sorting network first, then each pass merges pairs of runs from one array into the other
+	 * (ping-pong between inputArray and buffer), so no pass allocates or copies back.
 	 *
-	 * @param inputList1 the input list1
-	 * @param inputList2 the input list2
-	 * @return the int[] mergered array.
+	 * @param inputArray the input array
+	 * @param start the first index (inclusive)
+	 * @param end the last index (exclusive)
+	 * @param buffer scratch array with room for end - start elements from bufferStart.
+	 * @param bufferStart first index of buffer to use.
 	 */
-	private int[] doMerge(int[] inputList1, int[] inputList2){
-		int resultArraySize = inputList1.length + inputList2.length;
-		int[] resultArray = new int[resultArraySize];
+	private static void mergeSort(int[] inputArray, int start, int end, int[] buffer, int bufferStart){
+		int length = end - start;
+		for(int i = start; i < end; i += INITIAL_RUN)
+			SortingNetworks.sortSmall(inputArray, i, Math.min(INITIAL_RUN, end - i));
+		
+		int[] source = inputArray;
+		int sourceStart = start;
+		int[] result = buffer;
+		int resultStart = bufferStart;
+		//Use long for run positions so the doubling cannot overflow near Integer.MAX_VALUE.
+		for(long width = INITIAL_RUN; width < length; width <<= 1){
+			long passStart = SortCounters.phaseStart();
+			for(long position = 0; position < length; position += width << 1){
+				int middle = (int)Math.min(position + width, length);
+				int last = (int)Math.min(position + (width << 1), length);
+				doMerge(source, sourceStart + (int)position, sourceStart + middle, sourceStart + middle, sourceStart + last,
+						result, resultStart + (int)position);
+			}
+			SortCounters.mergeEnd(passStart);
+			
+			//Swap role of the two arrays for the next pass.
+			int[] tempArray = source;
+			source = result;
+			result = tempArray;
+			int tempStart = sourceStart;
+			sourceStart = resultStart;
+			resultStart = tempStart;
+		}
 		
-		int indexOfResult = 0;
-		int indexFirstList = 0;
-		int indexSecondList = 0;
+		//An odd number of passes leaves the sorted data in the buffer.
+		if(source != inputArray)
+			System.arraycopy(source, sourceStart, inputArray, start, length);
+	}
+	
+	/**
+	 * Compare element in 2 sorted ranges of source then merge then together into result.
+	 * The merge is stable: on equal values the element from the first range goes first.
+	 *
+	 * @param source the array holding both ranges
+	 * @param start1 first index of range 1 (inclusive)
+	 * @param end1 last index of range 1 (exclusive)
+	 * @param start2 first index of range 2 (inclusive)
+	 * @param end2 last index of range 2 (exclusive)
+	 * @param resultArray the output array
+	 * @param indexOfResult index in resultArray to write the first merged element.
+	 */
+	static void doMerge(int[] source, int start1, int end1, int start2, int end2, int[] resultArray, int indexOfResult){
+		int indexFirstList = start1;
+		int indexSecondList = start2;
+		long comparisons = 0;
 		
 		//Compare value of each list then copy min value to result list. Loop end when either list reach the end
-		while(!(indexFirstList >= inputList1.length || indexSecondList >= inputList2.length)){
-			int firstListValue = inputList1[indexFirstList];
-			int secondListValue = inputList2[indexSecondList];
+		while(!(indexFirstList >= end1 || indexSecondList >= end2)){
+			comparisons++;
+			int firstListValue = source[indexFirstList];
+			int secondListValue = source[indexSecondList];
 			if(firstListValue <= secondListValue){
 				resultArray[indexOfResult] = firstListValue;
 				indexFirstList++;
@@ -79,15 +286,10 @@ public class MergeSort extends Sorting{
 			}
 		}
 		//Copy the remaining element to result list
-		for(int i = indexFirstList; i < inputList1.length; i ++){
-			resultArray[indexOfResult] = inputList1[i];
-			indexOfResult++;
-		}		
-		for(int i = indexSecondList; i < inputList2.length; i ++){
-			resultArray[indexOfResult] = inputList2[i];
-			indexOfResult++;
-		}	
-		return resultArray;
+		System.arraycopy(source, indexFirstList, resultArray, indexOfResult, end1 - indexFirstList);
+		indexOfResult += end1 - indexFirstList;
+		System.arraycopy(source, indexSecondList, resultArray, indexOfResult, end2 - indexSecondList);
+		SortCounters.count(comparisons, (end1 - start1) + (end2 - start2));
 	}
 	
 	/**TESTING*/
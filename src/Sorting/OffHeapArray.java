@@ -0,0 +1,168 @@
+package Sorting;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/** Array of 32-bit or 64-bit integers stored outside the Java heap, indexed by long so it can hold more than
+ *  2^31 elements. The memory is either allocated (direct buffers) or a memory-mapped file, and is split in
+ *  chunks of 1 GB because a single buffer cannot be larger than 2 GB. Allocated memory uses the native byte
+ *  order, so accesses need no byte swap. Values in mapped files are read and written in place, big-endian,
+ *  the same format as ExternalMergeSort.
+ *  java.lang.foreign.MemorySegment would fit, but it is final only from JDK 22, above the JDK 11 this project
+ *  builds at, so chunked ByteBuffers stand in for segments.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public final class OffHeapArray {
+	/** Each chunk holds 2^CHUNK_SHIFT bytes, except the last one. */
+	private static final int CHUNK_SHIFT = 30;
+	
+	private final ByteBuffer[] chunks;
+	private final long length;
+	private final int elementShift;
+	//Elements per chunk is 2^indexShift.
+	private final int indexShift;
+	private final long indexMask;
+	
+	private OffHeapArray(ByteBuffer[] chunks, long length, int elementShift){
+		this.chunks = chunks;
+		this.length = length;
+		this.elementShift = elementShift;
+		this.indexShift = CHUNK_SHIFT - elementShift;
+		this.indexMask = (1L << indexShift) - 1;
+	}
+	
+	/**
+	 * Allocate an array of ints in native memory, initialized to 0.
+	 *
+	 * @param length number of ints
+	 * @return the array
+	 */
+	public static OffHeapArray allocateInts(long length){
+		return allocate(length, 2);
+	}
+	
+	/**
+	 * Allocate an array of longs in native memory, initialized to 0.
+	 *
+	 * @param length number of longs
+	 * @return the array
+	 */
+	public static OffHeapArray allocateLongs(long length){
+		return allocate(length, 3);
+	}
+	
+	/**
+	 * Map the whole file as an array of ints. With MapMode.READ_WRITE, changes are written to the file.
+	 * The mapping stays valid after the channel is closed.
+	 *
+	 * @param channel the file channel
+	 * @param mode the map mode
+	 * @return the array
+	 * @throws IOException if the file cannot be mapped or its length is not a multiple of 4.
+	 */
+	public static OffHeapArray mapInts(FileChannel channel, FileChannel.MapMode mode) throws IOException{
+		return map(channel, mode, 2);
+	}
+	
+	/**
+	 * Map the whole file as an array of longs. With MapMode.READ_WRITE, changes are written to the file.
+	 * The mapping stays valid after the channel is closed.
+	 *
+	 * @param channel the file channel
+	 * @param mode the map mode
+	 * @return the array
+	 * @throws IOException if the file cannot be mapped or its length is not a multiple of 8.
+	 */
+	public static OffHeapArray mapLongs(FileChannel channel, FileChannel.MapMode mode) throws IOException{
+		return map(channel, mode, 3);
+	}
+	
+	private static OffHeapArray allocate(long length, int elementShift){
+		if(length < 0 || length > Long.MAX_VALUE >>> elementShift)
+			throw new IllegalArgumentException("invalid length: " + length);
+		long bytes = length << elementShift;
+		ByteBuffer[] chunks = new ByteBuffer[chunkCount(bytes)];
+		for(int i = 0; i < chunks.length; i++)
+			chunks[i] = ByteBuffer.allocateDirect(chunkBytes(bytes, i)).order(ByteOrder.nativeOrder());
+		return new OffHeapArray(chunks, length, elementShift);
+	}
+	
+	private static OffHeapArray map(FileChannel channel, FileChannel.MapMode mode, int elementShift) throws IOException{
+		long bytes = channel.size();
+		if((bytes & ((1 << elementShift) - 1)) != 0)
+			throw new IOException("file length " + bytes + " is not a multiple of " + (1 << elementShift));
+		ByteBuffer[] chunks = new ByteBuffer[chunkCount(bytes)];
+		for(int i = 0; i < chunks.length; i++)
+			chunks[i] = channel.map(mode, (long)i << CHUNK_SHIFT, chunkBytes(bytes, i));
+		return new OffHeapArray(chunks, bytes >>> elementShift, elementShift);
+	}
+	
+	private static int chunkCount(long bytes){
+		return (int)((bytes + (1L << CHUNK_SHIFT) - 1) >>> CHUNK_SHIFT);
+	}
+	
+	private static int chunkBytes(long bytes, int chunk){
+		return (int)Math.min(1L << CHUNK_SHIFT, bytes - ((long)chunk << CHUNK_SHIFT));
+	}
+	
+	/**
+	 * Get the number of elements.
+	 *
+	 * @return the length
+	 */
+	public long length(){
+		return length;
+	}
+	
+	/**
+	 * Get the size of one element in bytes, 4 for ints and 8 for longs.
+	 *
+	 * @return the element size
+	 */
+	public int elementSize(){
+		return 1 << elementShift;
+	}
+	
+	/**
+	 * Get the int at index. Only valid on an array of ints.
+	 */
+	public int getInt(long index){
+		return chunks[(int)(index >>> indexShift)].getInt((int)(index & indexMask) << 2);
+	}
+	
+	/**
+	 * Set the int at index. Only valid on an array of ints.
+	 */
+	public void setInt(long index, int value){
+		chunks[(int)(index >>> indexShift)].putInt((int)(index & indexMask) << 2, value);
+	}
+	
+	/**
+	 * Get the long at index. Only valid on an array of longs.
+	 */
+	public long getLong(long index){
+		return chunks[(int)(index >>> indexShift)].getLong((int)(index & indexMask) << 3);
+	}
+	
+	/**
+	 * Set the long at index. Only valid on an array of longs.
+	 */
+	public void setLong(long index, long value){
+		chunks[(int)(index >>> indexShift)].putLong((int)(index & indexMask) << 3, value);
+	}
+	
+	/**
+	 * Write changes of a READ_WRITE mapped array to the file. Does nothing for allocated arrays.
+	 */
+	public void force(){
+		for(ByteBuffer chunk : chunks){
+			if(chunk instanceof MappedByteBuffer)
+				((MappedByteBuffer)chunk).force();
+		}
+	}
+}
@@ -0,0 +1,276 @@
+package Sorting;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/** In-place sort of ints or longs stored off the heap in an OffHeapArray, for data sets larger than the
+ *  2^31 elements a Java array can hold. Indexes are longs and nothing is copied to the heap, so a file mapped
+ *  with READ_WRITE is sorted where it lies. Same algorithm as QuickSort on long[]: median of 3 pivot,
+ *  3-way partition, insertion sort for small ranges and heap sort when the recursion gets too deep.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public final class OffHeapSort {
+	/** Ranges with at most this many elements are insertion sorted. */
+	private static final int INSERTION_SORT_THRESHOLD = 27;
+	
+	private OffHeapSort(){
+	}
+	
+	/**
+	 * Sort a file of big-endian ints in place, through a memory mapping.
+	 *
+	 * @param file the file
+	 * @throws IOException if the file cannot be mapped or its length is not a multiple of 4.
+	 */
+	public static void sortIntFile(Path file) throws IOException{
+		OffHeapArray array;
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try{
+			array = OffHeapArray.mapInts(channel, FileChannel.MapMode.READ_WRITE);
+		}
+		finally{
+			channel.close();
+		}
+		sortInts(array, 0, array.length());
+		array.force();
+	}
+	
+	/**
+	 * Sort a file of big-endian longs in place, through a memory mapping.
+	 *
+	 * @param file the file
+	 * @throws IOException if the file cannot be mapped or its length is not a multiple of 8.
+	 */
+	public static void sortLongFile(Path file) throws IOException{
+		OffHeapArray array;
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try{
+			array = OffHeapArray.mapLongs(channel, FileChannel.MapMode.READ_WRITE);
+		}
+		finally{
+			channel.close();
+		}
+		sortLongs(array, 0, array.length());
+		array.force();
+	}
+	
+	/**
+	 * Sort the range [fromIndex, toIndex) of an array of ints.
+	 *
+	 * @param array the array of ints
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex the last index (exclusive)
+	 */
+	public static void sortInts(OffHeapArray array, long fromIndex, long toIndex){
+		checkRange(array, 4, fromIndex, toIndex);
+		introSortInts(array, fromIndex, toIndex, depthLimit(toIndex - fromIndex));
+	}
+	
+	/**
+	 * Sort the range [fromIndex, toIndex) of an array of longs.
+	 *
+	 * @param array the array of longs
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex the last index (exclusive)
+	 */
+	public static void sortLongs(OffHeapArray array, long fromIndex, long toIndex){
+		checkRange(array, 8, fromIndex, toIndex);
+		introSortLongs(array, fromIndex, toIndex, depthLimit(toIndex - fromIndex));
+	}
+	
+	private static void checkRange(OffHeapArray array, int elementSize, long fromIndex, long toIndex){
+		if(array.elementSize() != elementSize)
+			throw new IllegalArgumentException("expected elements of " + elementSize + " bytes, not " + array.elementSize());
+		if(fromIndex < 0 || fromIndex > toIndex || toIndex > array.length())
+			throw new ArrayIndexOutOfBoundsException("range [" + fromIndex + ", " + toIndex + ") of length " + array.length());
+	}
+	
+	private static int depthLimit(long length){
+		return 2 * (63 - Long.numberOfLeadingZeros(Math.max(length, 1)));
+	}
+	
+	private static void introSortInts(OffHeapArray array, long low, long high, int depthLimit){
+		while(high - low > INSERTION_SORT_THRESHOLD){
+			if(depthLimit-- == 0){
+				heapSortInts(array, low, high);
+				return;
+			}
+			
+			//Median of first, middle and last element.
+			int a = array.getInt(low);
+			int b = array.getInt((low + high) >>> 1);
+			int c = array.getInt(high - 1);
+			int pivot = a < b ? (b < c ? b : (a < c ? c : a)) : (a < c ? a : (b < c ? c : b));
+			
+			//3-way partition: [low, lessEnd) < pivot, [lessEnd, greaterStart) == pivot, [greaterStart, high) > pivot.
+			long lessEnd = low;
+			long greaterStart = high;
+			long k = low;
+			while(k < greaterStart){
+				int value = array.getInt(k);
+				if(value < pivot){
+					array.setInt(k++, array.getInt(lessEnd));
+					array.setInt(lessEnd++, value);
+				}
+				else if(value > pivot){
+					array.setInt(k, array.getInt(--greaterStart));
+					array.setInt(greaterStart, value);
+				}
+				else
+					k++;
+			}
+			
+			//Recurse on the smaller side, loop on the larger one.
+			if(lessEnd - low < high - greaterStart){
+				introSortInts(array, low, lessEnd, depthLimit);
+				low = greaterStart;
+			}
+			else
+			{
+				introSortInts(array, greaterStart, high, depthLimit);
+				high = lessEnd;
+			}
+		}
+		
+		//Insertion sort on what is left.
+		for(long i = low + 1; i < high; i++){
+			int value = array.getInt(i);
+			long j = i - 1;
+			while(j >= low && array.getInt(j) > value){
+				array.setInt(j + 1, array.getInt(j));
+				j--;
+			}
+			array.setInt(j + 1, value);
+		}
+	}
+	
+	private static void heapSortInts(OffHeapArray array, long low, long high){
+		long size = high - low;
+		for(long i = (size >>> 1) - 1; i >= 0; i--)
+			siftDownInts(array, low, i, size);
+		for(long end = size - 1; end > 0; end--){
+			int tempValue = array.getInt(low);
+			array.setInt(low, array.getInt(low + end));
+			array.setInt(low + end, tempValue);
+			siftDownInts(array, low, 0, end);
+		}
+	}
+	
+	private static void siftDownInts(OffHeapArray array, long base, long nodeIndex, long size){
+		int value = array.getInt(base + nodeIndex);
+		long half = size >>> 1;
+		while(nodeIndex < half){
+			long child = 2 * nodeIndex + 1;
+			int childValue = array.getInt(base + child);
+			if(child + 1 < size && array.getInt(base + child + 1) > childValue)
+				childValue = array.getInt(base + ++child);
+			if(value >= childValue)
+				break;
+			array.setInt(base + nodeIndex, childValue);
+			nodeIndex = child;
+		}
+		array.setInt(base + nodeIndex, value);
+	}
+	
+	private static void introSortLongs(OffHeapArray array, long low, long high, int depthLimit){
+		while(high - low > INSERTION_SORT_THRESHOLD){
+			if(depthLimit-- == 0){
+				heapSortLongs(array, low, high);
+				return;
+			}
+			
+			//Median of first, middle and last element.
+			long a = array.getLong(low);
+			long b = array.getLong((low + high) >>> 1);
+			long c = array.getLong(high - 1);
+			long pivot = a < b ? (b < c ? b : (a < c ? c : a)) : (a < c ? a : (b < c ? c : b));
+			
+			//3-way partition: [low, lessEnd) < pivot, [lessEnd, greaterStart) == pivot, [greaterStart, high) > pivot.
+			long lessEnd = low;
+			long greaterStart = high;
+			long k = low;
+			while(k < greaterStart){
+				long value = array.getLong(k);
+				if(value < pivot){
+					array.setLong(k++, array.getLong(lessEnd));
+					array.setLong(lessEnd++, value);
+				}
+				else if(value > pivot){
+					array.setLong(k, array.getLong(--greaterStart));
+					array.setLong(greaterStart, value);
+				}
+				else
+					k++;
+			}
+			
+			//Recurse on the smaller side, loop on the larger one.
+			if(lessEnd - low < high - greaterStart){
+				introSortLongs(array, low, lessEnd, depthLimit);
+				low = greaterStart;
+			}
+			else
+			{
+				introSortLongs(array, greaterStart, high, depthLimit);
+				high = lessEnd;
+			}
+		}
+		
+		//Insertion sort on what is left.
+		for(long i = low + 1; i < high; i++){
+			long value = array.getLong(i);
+			long j = i - 1;
+			while(j >= low && array.getLong(j) > value){
+				array.setLong(j + 1, array.getLong(j));
+				j--;
+			}
+			array.setLong(j + 1, value);
+		}
+	}
+	
+	private static void heapSortLongs(OffHeapArray array, long low, long high){
+		long size = high - low;
+		for(long i = (size >>> 1) - 1; i >= 0; i--)
+			siftDownLongs(array, low, i, size);
+		for(long end = size - 1; end > 0; end--){
+			long tempValue = array.getLong(low);
+			array.setLong(low, array.getLong(low + end));
+			array.setLong(low + end, tempValue);
+			siftDownLongs(array, low, 0, end);
+		}
+	}
+	
+	private static void siftDownLongs(OffHeapArray array, long base, long nodeIndex, long size){
+		long value = array.getLong(base + nodeIndex);
+		long half = size >>> 1;
+		while(nodeIndex < half){
+			long child = 2 * nodeIndex + 1;
+			long childValue = array.getLong(base + child);
+			if(child + 1 < size && array.getLong(base + child + 1) > childValue)
+				childValue = array.getLong(base + ++child);
+			if(value >= childValue)
+				break;
+			array.setLong(base + nodeIndex, childValue);
+			nodeIndex = child;
+		}
+		array.setLong(base + nodeIndex, value);
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		System.out.println("Off-heap Sort:");
+		Random rndGen = new Random();
+		OffHeapArray ints = OffHeapArray.allocateInts(20);
+		for(long i = 0; i < ints.length(); i++)
+			ints.setInt(i, rndGen.nextInt(100));
+		sortInts(ints, 0, ints.length());
+		StringBuilder line = new StringBuilder();
+		for(long i = 0; i < ints.length(); i++)
+			line.append(ints.getInt(i)).append(' ');
+		System.out.println(line);
+	}
+}
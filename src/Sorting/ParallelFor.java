@@ -0,0 +1,45 @@
+package Sorting;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/** Fork/join loop over the indexes [from, to): the range is split in halves until each task runs one index.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+final class ParallelFor extends RecursiveAction {
+	private static final long serialVersionUID = 1L;
+	private final IntConsumer body;
+	private final int from, to;
+	
+	private ParallelFor(IntConsumer body, int from, int to){
+		this.body = body;
+		this.from = from;
+		this.to = to;
+	}
+	
+	/**
+	 * Run body for every index of [from, to) on the pool and wait for all of them.
+	 *
+	 * @param pool the pool
+	 * @param from the first index (inclusive)
+	 * @param to the last index (exclusive)
+	 * @param body the loop body
+	 */
+	static void run(ForkJoinPool pool, int from, int to, IntConsumer body){
+		if(from < to)
+			pool.invoke(new ParallelFor(body, from, to));
+	}
+	
+	@Override
+	protected void compute(){
+		if(to - from == 1){
+			body.accept(from);
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		invokeAll(new ParallelFor(body, from, middle), new ParallelFor(body, middle, to));
+	}
+}
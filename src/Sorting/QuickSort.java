@@ -1,84 +1,345 @@
 package Sorting;
-import java.util.ArrayList;
-import java.util.Random;
 
-/** Quick Sort algorithm implementation
+/** Quick Sort algorithm implementation.
+ *  In-place dual-pivot quick sort on int[]. Small partitions are sorted by a sorting network or insertion sort, and the sort switches
+ *  to heap sort when the recursion gets too deep, so the worst case stays O(n log n).
  * 
  * @author Ryan Huynh
  * @version Dec 2014
  *
  */
 public class QuickSort extends Sorting {
+	/** Partitions with at most this many elements are insertion sorted, or sorted by a network up to SortingNetworks.MAX_SIZE. */
+	private static final int INSERTION_SORT_THRESHOLD = 27;
 
 	public QuickSort(int sizeOfArray) {
 		super(sizeOfArray);
 	}
 	
+	public QuickSort() {
+		super();
+	}
+	
 	//Implement Quick Sort
 	@Override
-	public void doSort() {
-		int[] inputArray = this.getArray();
-		ArrayList<Integer> result = quickSort(toArrayList(inputArray));
-		this.setArray(result);		
+	public void sort(int[] array, int offset, int length) {
+		checkRange(array, offset, length);
+		quickSort(array, offset, offset + length);
 	}
 	
+	/**
+	 * Sort the range [low, high) of the array in place.
+	 *
+	 * @param array the array
+	 * @param low the first index (inclusive)
+	 * @param high the last index (exclusive)
+	 */
+	static void quickSort(int[] array, int low, int high){
+		int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(high - low, 1)));
+		introSort(array, low, high, depthLimit);
+	}
 	
 	/**
 	 * Quick sort implementation.
+	 * Pick 2 pivots from 5 sampled elements and split the range into 3 parts: less than pivot1, between the pivots
+	 * and greater than pivot2. When both pivots are equal (many duplicates) do a 3-way partition instead:
+	 * less than, equal to and greater than the pivot, like the old left/middle/right lists.
 	 *
-	 * @param input the input
-	 * @return the array list
+	 * @param array the array
+	 * @param low the first index (inclusive)
+	 * @param high the last index (exclusive)
+	 * @param depthLimit number of partition levels left before falling back to heap sort.
 	 */
-	private ArrayList<Integer> quickSort(ArrayList<Integer> input){
-		if(input.size() <= 1)
-			return input;
-		else{
+	private static void introSort(int[] array, int low, int high, int depthLimit){
+		SortCounters.enter();
+		long comparisons = 0;
+		long swaps = 0;
+		while(high - low > INSERTION_SORT_THRESHOLD){
+			if(depthLimit-- == 0){
+				heapSort(array, low, high);
+				break;
+			}
+			long partitionStart = SortCounters.phaseStart();
 			
-			//Pick a random pivot point.
-			Random rndGen = new Random();
-			int rndIndex = rndGen.nextInt(input.size());
-			int pivot = input.get(rndIndex);
+			//Sort 5 evenly spaced elements, the 2nd and 4th become the pivots.
+			int last = high - 1;
+			int length = high - low;
+			int seventh = (length >> 3) + (length >> 6) + 1;
+			int e3 = (low + last) >>> 1;
+			int e2 = e3 - seventh;
+			int e1 = e2 - seventh;
+			int e4 = e3 + seventh;
+			int e5 = e4 + seventh;
+			sortFive(array, e1, e2, e3, e4, e5);
 			
-			//3 ArrayLists to hold elements. LeftList: elements less than pivot, RightList: element larger than pivot, MiddleList: elements equal pivot.
-			ArrayList<Integer> leftList = new ArrayList<Integer>();
-			ArrayList<Integer> middleList = new ArrayList<Integer>();
-			ArrayList<Integer> rightList = new ArrayList<Integer>();
-			//Copy element to the list
-			for(int i = 0; i < input.size(); i++){
-				int value = input.get(i);
-				if(value < pivot)
-					leftList.add(value);
-				if(value == pivot)
-					middleList.add(value);
-				if(value > pivot)
-					rightList.add(value);
+			if(array[e2] == array[e4]){
+				//3-way partition: [low, lessEnd) < pivot, [lessEnd, greaterStart) == pivot, [greaterStart, high) > pivot.
+				int pivot = array[e3];
+				int lessEnd = low;
+				int greaterStart = high;
+				int k = low;
+				while(k < greaterStart){
+					int value = array[k];
+					comparisons++;
+					if(value < pivot){
+						swap(array, lessEnd++, k++);
+						swaps++;
+					}
+					else if(value > pivot){
+						swap(array, k, --greaterStart);
+						comparisons++;
+						swaps++;
+					}
+					else
+					{
+						k++;
+						comparisons++;
+					}
+				}
+				SortCounters.partitionEnd(partitionStart);
+				introSort(array, low, lessEnd, depthLimit);
+				low = greaterStart;
+				continue;
+			}
+			
+			//Move the pivots to both ends of the range.
+			swap(array, e2, low);
+			swap(array, e4, last);
+			int pivot1 = array[low];
+			int pivot2 = array[last];
+			
+			//[low + 1, less) < pivot1, [less, k) between pivots, (great, last) > pivot2.
+			int less = low + 1;
+			int great = last - 1;
+			for(int k = less; k <= great; k++){
+				int value = array[k];
+				comparisons++;
+				if(value < pivot1){
+					swap(array, k, less++);
+					swaps++;
+				}
+				else
+				{
+					comparisons++;
+					if(value > pivot2){
+						while(k < great && array[great] > pivot2){
+							great--;
+							comparisons++;
+						}
+						swap(array, k, great--);
+						swaps++;
+						comparisons++;
+						if(array[k] < pivot1){
+							swap(array, k, less++);
+							swaps++;
+						}
+					}
+				}
+			}
+			
+			//Put the pivots in their final place.
+			swap(array, low, less - 1);
+			swap(array, last, great + 1);
+			swaps += 4;
+			
+			//Left and right parts never contain a pivot value, sort them with these bounds.
+			int leftEnd = less - 1;
+			int rightStart = great + 2;
+			
+			//A middle part of more than 3/4 of the range usually means many elements equal to a pivot.
+			//Move them to the ends of the middle part, next to their pivot, so the middle recursion skips them.
+			if(great - less + 1 > length - (length >> 2)){
+				for(int k = less; k <= great; k++){
+					int value = array[k];
+					if(value == pivot1){
+						swap(array, k, less++);
+					}
+					else if(value == pivot2){
+						while(k < great && array[great] == pivot2)
+							great--;
+						swap(array, k, great--);
+						if(array[k] == pivot1)
+							swap(array, k, less++);
+					}
+				}
 			}
-			//Recursive until size of the array is 1.
-			if(leftList.size() > 1)
-				leftList = quickSort(leftList);
-			if(rightList.size() > 1)
-				rightList = quickSort(rightList);
-			//Merge all 3 lists.
-			ArrayList<Integer> result = new ArrayList<Integer>();
-			result.addAll(leftList);
-			result.addAll(middleList);
-			result.addAll(rightList);
-			return result;
+			SortCounters.partitionEnd(partitionStart);
+			
+			introSort(array, low, leftEnd, depthLimit);
+			introSort(array, less, great + 1, depthLimit);
+			low = rightStart;
+		}
+		if(high - low <= SortingNetworks.MAX_SIZE)
+			SortingNetworks.sortSmall(array, low, high - low);
+		else if(high - low <= INSERTION_SORT_THRESHOLD)
+			InsertionSort.insertionSort(array, low, high);
+		SortCounters.count(comparisons, 2 * swaps);
+		SortCounters.exit();
+	}
+	
+	/**
+	 * Sort the 5 elements at the given indexes (in increasing index order) with a sorting network.
+	 */
+	private static void sortFive(int[] array, int e1, int e2, int e3, int e4, int e5){
+		compareSwap(array, e1, e4);
+		compareSwap(array, e2, e5);
+		compareSwap(array, e1, e3);
+		compareSwap(array, e2, e4);
+		compareSwap(array, e1, e2);
+		compareSwap(array, e3, e5);
+		compareSwap(array, e2, e3);
+		compareSwap(array, e4, e5);
+		compareSwap(array, e3, e4);
+	}
+	
+	/**
+	 * Swap 2 elements if they are out of order.
+	 */
+	private static void compareSwap(int[] array, int i, int j){
+		if(array[i] > array[j])
+			swap(array, i, j);
+	}
+	
+	/**
+	 * Swap 2 elements of the array.
+	 */
+	private static void swap(int[] array, int i, int j){
+		int tempValue = array[i];
+		array[i] = array[j];
+		array[j] = tempValue;
+	}
+	
+	/**
+	 * Heap sort on the range [low, high). Used when quick sort recursion gets too deep.
+	 *
+	 * @param array the array
+	 * @param low the first index (inclusive)
+	 * @param high the last index (exclusive)
+	 */
+	static void heapSort(int[] array, int low, int high){
+		int size = high - low;
+		for(int i = (size >>> 1) - 1; i >= 0; i--)
+			siftDown(array, low, i, size);
+		for(int end = size - 1; end > 0; end--){
+			swap(array, low, low + end);
+			siftDown(array, low, 0, end);
 		}
 	}
 	
 	/**
-	 * Helper function to convert ArrayList into array 
+	 * Down heap bubbling in a max heap stored at array[base, base + size).
+	 */
+	private static void siftDown(int[] array, int base, int nodeIndex, int size){
+		int value = array[base + nodeIndex];
+		int half = size >>> 1;
+		while(nodeIndex < half){
+			int child = 2 * nodeIndex + 1;
+			int childValue = array[base + child];
+			if(child + 1 < size && array[base + child + 1] > childValue)
+				childValue = array[base + ++child];
+			if(value >= childValue)
+				break;
+			array[base + nodeIndex] = childValue;
+			nodeIndex = child;
+		}
+		array[base + nodeIndex] = value;
+	}
+	
+	/**
+	 * Sort the range [low, high) of a long array in place.
+	 * Single pivot version of introSort: median of 3 pivot, 3-way partition, insertion sort for small ranges
+	 * and heap sort when the recursion gets too deep.
 	 *
-	 * @param input the input
-	 * @return the array list
+	 * @param array the array
+	 * @param low the first index (inclusive)
+	 * @param high the last index (exclusive)
 	 */
-	private ArrayList<Integer> toArrayList(int[] input){ 
-		ArrayList<Integer> result = new ArrayList<Integer>();
-		for(int i = 0 ; i < input.length; i++){
-			result.add(input[i]);
+	static void quickSort(long[] array, int low, int high){
+		int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(high - low, 1)));
+		introSort(array, low, high, depthLimit);
+	}
+	
+	private static void introSort(long[] array, int low, int high, int depthLimit){
+		while(high - low > INSERTION_SORT_THRESHOLD){
+			if(depthLimit-- == 0){
+				heapSort(array, low, high);
+				return;
+			}
+			
+			//Median of first, middle and last element.
+			long a = array[low];
+			long b = array[(low + high) >>> 1];
+			long c = array[high - 1];
+			long pivot = a < b ? (b < c ? b : (a < c ? c : a)) : (a < c ? a : (b < c ? c : b));
+			
+			//3-way partition: [low, lessEnd) < pivot, [lessEnd, greaterStart) == pivot, [greaterStart, high) > pivot.
+			int lessEnd = low;
+			int greaterStart = high;
+			int k = low;
+			while(k < greaterStart){
+				long value = array[k];
+				if(value < pivot)
+					swap(array, lessEnd++, k++);
+				else if(value > pivot)
+					swap(array, k, --greaterStart);
+				else
+					k++;
+			}
+			
+			//Recurse on the smaller side, loop on the larger one.
+			if(lessEnd - low < high - greaterStart){
+				introSort(array, low, lessEnd, depthLimit);
+				low = greaterStart;
+			}
+			else
+			{
+				introSort(array, greaterStart, high, depthLimit);
+				high = lessEnd;
+			}
+		}
+		
+		//Insertion sort on what is left.
+		for(int i = low + 1; i < high; i++){
+			long value = array[i];
+			int j = i - 1;
+			while(j >= low && array[j] > value){
+				array[j + 1] = array[j];
+				j--;
+			}
+			array[j + 1] = value;
+		}
+	}
+	
+	private static void swap(long[] array, int i, int j){
+		long tempValue = array[i];
+		array[i] = array[j];
+		array[j] = tempValue;
+	}
+	
+	private static void heapSort(long[] array, int low, int high){
+		int size = high - low;
+		for(int i = (size >>> 1) - 1; i >= 0; i--)
+			siftDown(array, low, i, size);
+		for(int end = size - 1; end > 0; end--){
+			swap(array, low, low + end);
+			siftDown(array, low, 0, end);
+		}
+	}
+	
+	private static void siftDown(long[] array, int base, int nodeIndex, int size){
+		long value = array[base + nodeIndex];
+		int half = size >>> 1;
+		while(nodeIndex < half){
+			int child = 2 * nodeIndex + 1;
+			long childValue = array[base + child];
+			if(child + 1 < size && array[base + child + 1] > childValue)
+				childValue = array[base + ++child];
+			if(value >= childValue)
+				break;
+			array[base + nodeIndex] = childValue;
+			nodeIndex = child;
 		}
-		return result;
+		array[base + nodeIndex] = value;
 	}
 	
 	/**TESTING*/
@@ -0,0 +1,115 @@
+package Sorting;
+import java.util.Arrays;
+
+/** LSD Radix Sort algorithm implementation.
+ *  Sort 32-bit ints by 4 passes of 8-bit digits, from the lowest digit to the highest. No element is compared.
+ *  Signed values are handled by flipping the sign bit of the top digit, and a pass is skipped when all elements
+ *  share the same digit. The histogram and scratch arrays are kept by the instance and reused across calls.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class RadixSort extends Sorting{
+	private static final int DIGIT_BITS = 8;
+	private static final int RADIX = 1 << DIGIT_BITS;
+	private static final int DIGIT_MASK = RADIX - 1;
+	private static final int PASSES = 32 / DIGIT_BITS;
+	
+	//Histogram for every digit, filled in one read of the input. Reused across calls.
+	private final int[][] histogram = new int[PASSES][RADIX];
+	//Scratch array reused across calls on this instance. It only grows.
+	private int[] scratch = new int[0];
+	
+	public RadixSort(int sizeOfArray){
+		super(sizeOfArray);
+	}
+	
+	public RadixSort(){
+		super();
+	}
+	
+	//Implement Radix Sort
+	@Override
+	public void sort(int[] array, int offset, int length){
+		checkRange(array, offset, length);
+		if(length < 2)
+			return;
+		if(scratch.length < length)
+			scratch = new int[length];
+		radixSort(array, offset, length, scratch, histogram);
+	}
+	
+	/**
+	 * LSD radix sort of array[offset, offset + length) using buffer[0, length) as scratch.
+	 *
+	 * @param array the array
+	 * @param offset index of the first element to sort
+	 * @param length number of elements to sort
+	 * @param buffer scratch array with at least length elements
+	 * @param histogram PASSES x RADIX count array, its content is overwritten
+	 */
+	private static void radixSort(int[] array, int offset, int length, int[] buffer, int[][] histogram){
+		for(int pass = 0; pass < PASSES; pass++)
+			Arrays.fill(histogram[pass], 0);
+		
+		//Count every digit in a single read of the input.
+		int end = offset + length;
+		for(int i = offset; i < end; i++){
+			int key = array[i] ^ Integer.MIN_VALUE;
+			for(int pass = 0; pass < PASSES; pass++)
+				histogram[pass][(key >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+		}
+		
+		int[] source = array;
+		int sourceStart = offset;
+		int[] result = buffer;
+		int resultStart = 0;
+		for(int pass = 0; pass < PASSES; pass++){
+			int[] count = histogram[pass];
+			int shift = pass * DIGIT_BITS;
+			
+			//Skip this pass if every element has the same digit.
+			if(count[(source[sourceStart] ^ Integer.MIN_VALUE) >>> shift & DIGIT_MASK] == length)
+				continue;
+			
+			//Turn counts into start positions.
+			int position = resultStart;
+			for(int digit = 0; digit < RADIX; digit++){
+				int digitCount = count[digit];
+				count[digit] = position;
+				position += digitCount;
+			}
+			
+			//Distribute elements to their bucket, stable within each bucket.
+			SortCounters.count(0, length);
+			int sourceEnd = sourceStart + length;
+			for(int i = sourceStart; i < sourceEnd; i++){
+				int value = source[i];
+				result[count[((value ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = value;
+			}
+			
+			//Swap role of the two arrays for the next pass.
+			int[] tempArray = source;
+			source = result;
+			result = tempArray;
+			int tempStart = sourceStart;
+			sourceStart = resultStart;
+			resultStart = tempStart;
+		}
+		
+		//An odd number of passes leaves the sorted data in the buffer.
+		if(source != array)
+			System.arraycopy(source, sourceStart, array, offset, length);
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		
+		System.out.println("Radix Sort:");
+		RadixSort newRSort = new RadixSort(20);
+		newRSort.print();
+		newRSort.doSort();
+		newRSort.print();
+	}
+}
@@ -0,0 +1,361 @@
+package Sorting;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/** Parallel Sample Sort implementation for many-core machines.
+ *  Splitters are picked from an oversampled random sample, so each of the buckets gets about the same number of elements.
+ *  The array is cut into blocks: in parallel every block counts how many of its elements go to each bucket, then
+ *  copies them to their final bucket position in a buffer (one parallel pass, no locks). Each bucket is then
+ *  sorted on its own with QuickSort and copied back. Unlike the fork/join merge sort there is no final merge,
+ *  so memory bandwidth is only needed for one distribution pass and one copy back.
+ *  When a value fills a large part of the sample, some splitters repeat. Then each bucket is followed by an
+ *  equality bucket for the values equal to its upper splitter, as in IPS4o. Those buckets are not sorted, so a
+ *  frequent value does not end up as one huge bucket sorted by a single thread.
+ *  The buffers are kept by the instance and reused across calls.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class SampleSort extends Sorting{
+	/** Arrays smaller than this are sorted sequentially. */
+	private static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+	/** Number of samples taken per bucket. */
+	private static final int OVERSAMPLING = 32;
+	/** Smallest number of elements a block is given in the distribution pass. */
+	private static final int MIN_BLOCK_SIZE = 1 << 14;
+	private static final int MAX_BUCKETS = 1024;
+	
+	private final ForkJoinPool pool;
+	//Distribution buffers reused across calls on this instance. They only grow.
+	private int[] intBuffer = new int[0];
+	private long[] longBuffer = new long[0];
+	
+	public SampleSort(int sizeOfArray){
+		super(sizeOfArray);
+		pool = ForkJoinPool.commonPool();
+	}
+	
+	public SampleSort(){
+		this(ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Instantiates a sample sort that runs on the given pool.
+	 *
+	 * @param pool the pool
+	 */
+	public SampleSort(ForkJoinPool pool){
+		super();
+		this.pool = pool;
+	}
+	
+	//Implement Sample Sort
+	@Override
+	public void sort(int[] array, int offset, int length){
+		checkRange(array, offset, length);
+		if(length < SEQUENTIAL_THRESHOLD || pool.getParallelism() < 2){
+			QuickSort.quickSort(array, offset, offset + length);
+			return;
+		}
+		if(intBuffer.length < length)
+			intBuffer = new int[length];
+		sampleSort(array, offset, length, intBuffer);
+	}
+	
+	/**
+	 * Sort the whole long array in place.
+	 *
+	 * @param array the array to sort.
+	 */
+	public void sort(long[] array){
+		sort(array, 0, array.length);
+	}
+	
+	/**
+	 * Sort length elements of the long array starting at offset, in place.
+	 *
+	 * @param array the array to sort.
+	 * @param offset index of the first element to sort.
+	 * @param length number of elements to sort.
+	 */
+	public void sort(long[] array, int offset, int length){
+		if(offset < 0 || length < 0 || offset > array.length - length)
+			throw new ArrayIndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + array.length);
+		if(length < SEQUENTIAL_THRESHOLD || pool.getParallelism() < 2){
+			QuickSort.quickSort(array, offset, offset + length);
+			return;
+		}
+		if(longBuffer.length < length)
+			longBuffer = new long[length];
+		sampleSort(array, offset, length, longBuffer);
+	}
+	
+	/**
+	 * Sample sort of array[offset, offset + length) using buffer[0, length) for the distribution.
+	 */
+	private void sampleSort(final int[] array, final int offset, final int length, final int[] buffer){
+		final int buckets = bucketCount(length);
+		final int blocks = blockCount(length);
+		final int blockSize = length / blocks + 1;
+		
+		//Pick buckets - 1 splitters from a sorted random sample, and lay them out as an implicit search tree.
+		int[] sample = new int[buckets * OVERSAMPLING];
+		ThreadLocalRandom rndGen = ThreadLocalRandom.current();
+		for(int i = 0; i < sample.length; i++)
+			sample[i] = array[offset + rndGen.nextInt(length)];
+		QuickSort.quickSort(sample, 0, sample.length);
+		final int[] tree = new int[buckets];
+		fillTree(tree, sample, 1, 0);
+		final int[] splitters = splitters(sample, buckets);
+		final boolean equality = hasRepeats(splitters);
+		final int slots = equality ? 2 * buckets : buckets;
+		
+		//Count the elements of each block per bucket.
+		final int[][] counts = new int[blocks][slots];
+		ParallelFor.run(pool, 0, blocks, new IntConsumer(){
+			@Override
+			public void accept(int block){
+				int[] count = counts[block];
+				int end = offset + (int)Math.min(length, (long)(block + 1) * blockSize);
+				for(int i = offset + block * blockSize; i < end; i++)
+					count[classify(tree, splitters, buckets, equality, array[i])]++;
+			}
+		});
+		
+		//Turn counts into write positions: bucket by bucket, and inside a bucket block by block.
+		final int[] bucketStart = toPositions(counts, slots, length);
+		
+		//Copy every element to its bucket in the buffer.
+		ParallelFor.run(pool, 0, blocks, new IntConsumer(){
+			@Override
+			public void accept(int block){
+				int[] position = counts[block];
+				int end = offset + (int)Math.min(length, (long)(block + 1) * blockSize);
+				for(int i = offset + block * blockSize; i < end; i++){
+					int value = array[i];
+					buffer[position[classify(tree, splitters, buckets, equality, value)]++] = value;
+				}
+			}
+		});
+		
+		//Sort each bucket and copy it back. An equality bucket holds a single value and is already sorted.
+		ParallelFor.run(pool, 0, slots, new IntConsumer(){
+			@Override
+			public void accept(int bucket){
+				int start = bucketStart[bucket];
+				int end = bucketStart[bucket + 1];
+				if(!equality || (bucket & 1) == 0)
+					QuickSort.quickSort(buffer, start, end);
+				System.arraycopy(buffer, start, array, offset + start, end - start);
+			}
+		});
+	}
+	
+	/**
+	 * Sample sort of array[offset, offset + length) using buffer[0, length) for the distribution.
+	 */
+	private void sampleSort(final long[] array, final int offset, final int length, final long[] buffer){
+		final int buckets = bucketCount(length);
+		final int blocks = blockCount(length);
+		final int blockSize = length / blocks + 1;
+		
+		long[] sample = new long[buckets * OVERSAMPLING];
+		ThreadLocalRandom rndGen = ThreadLocalRandom.current();
+		for(int i = 0; i < sample.length; i++)
+			sample[i] = array[offset + rndGen.nextInt(length)];
+		QuickSort.quickSort(sample, 0, sample.length);
+		final long[] tree = new long[buckets];
+		fillTree(tree, sample, 1, 0);
+		final long[] splitters = splitters(sample, buckets);
+		final boolean equality = hasRepeats(splitters);
+		final int slots = equality ? 2 * buckets : buckets;
+		
+		final int[][] counts = new int[blocks][slots];
+		ParallelFor.run(pool, 0, blocks, new IntConsumer(){
+			@Override
+			public void accept(int block){
+				int[] count = counts[block];
+				int end = offset + (int)Math.min(length, (long)(block + 1) * blockSize);
+				for(int i = offset + block * blockSize; i < end; i++)
+					count[classify(tree, splitters, buckets, equality, array[i])]++;
+			}
+		});
+		
+		final int[] bucketStart = toPositions(counts, slots, length);
+		
+		ParallelFor.run(pool, 0, blocks, new IntConsumer(){
+			@Override
+			public void accept(int block){
+				int[] position = counts[block];
+				int end = offset + (int)Math.min(length, (long)(block + 1) * blockSize);
+				for(int i = offset + block * blockSize; i < end; i++){
+					long value = array[i];
+					buffer[position[classify(tree, splitters, buckets, equality, value)]++] = value;
+				}
+			}
+		});
+		
+		ParallelFor.run(pool, 0, slots, new IntConsumer(){
+			@Override
+			public void accept(int bucket){
+				int start = bucketStart[bucket];
+				int end = bucketStart[bucket + 1];
+				if(!equality || (bucket & 1) == 0)
+					QuickSort.quickSort(buffer, start, end);
+				System.arraycopy(buffer, start, array, offset + start, end - start);
+			}
+		});
+	}
+	
+	/**SOME UTILITY FUNCTIONS*/
+	
+	/**
+	 * Number of buckets: a power of 2, about 4 per thread so a slow bucket does not hold back the others.
+	 */
+	private int bucketCount(int length){
+		int wanted = Math.min(MAX_BUCKETS, Math.max(2, Math.min(pool.getParallelism() * 4, length / MIN_BLOCK_SIZE)));
+		return Integer.highestOneBit(wanted);
+	}
+	
+	/**
+	 * Number of blocks in the distribution pass.
+	 */
+	private int blockCount(int length){
+		return Math.max(1, Math.min(pool.getParallelism() * 4, length / MIN_BLOCK_SIZE));
+	}
+	
+	/**
+	 * Turn per-block bucket counts into write positions, in place, and return where each bucket starts.
+	 *
+	 * @param counts counts[block][bucket], replaced by the first write position of that block in that bucket.
+	 * @param buckets number of buckets
+	 * @param length number of elements
+	 * @return start of each bucket, plus length at index buckets.
+	 */
+	private static int[] toPositions(int[][] counts, int buckets, int length){
+		int[] bucketStart = new int[buckets + 1];
+		int position = 0;
+		for(int bucket = 0; bucket < buckets; bucket++){
+			bucketStart[bucket] = position;
+			for(int block = 0; block < counts.length; block++){
+				int count = counts[block][bucket];
+				counts[block][bucket] = position;
+				position += count;
+			}
+		}
+		bucketStart[buckets] = length;
+		return bucketStart;
+	}
+	
+	/**
+	 * Lay out the splitters of the sorted sample as an implicit binary search tree (node k has children 2k and 2k + 1),
+	 * taking every OVERSAMPLING-th sample in order.
+	 *
+	 * @return number of splitters placed so far
+	 */
+	private static int fillTree(int[] tree, int[] sample, int node, int placed){
+		if(node < tree.length){
+			placed = fillTree(tree, sample, 2 * node, placed);
+			tree[node] = sample[(placed + 1) * OVERSAMPLING];
+			placed = fillTree(tree, sample, 2 * node + 1, placed + 1);
+		}
+		return placed;
+	}
+	
+	private static int fillTree(long[] tree, long[] sample, int node, int placed){
+		if(node < tree.length){
+			placed = fillTree(tree, sample, 2 * node, placed);
+			tree[node] = sample[(placed + 1) * OVERSAMPLING];
+			placed = fillTree(tree, sample, 2 * node + 1, placed + 1);
+		}
+		return placed;
+	}
+	
+	/**
+	 * Return the sorted splitters: splitters[k] is the upper splitter of bucket k - 1, the same sample as
+	 * the k-th node of the tree in order. splitters[buckets] is the largest value, the upper bound of the last bucket.
+	 */
+	private static int[] splitters(int[] sample, int buckets){
+		int[] splitters = new int[buckets + 1];
+		for(int k = 1; k < buckets; k++)
+			splitters[k] = sample[k * OVERSAMPLING];
+		splitters[buckets] = Integer.MAX_VALUE;
+		return splitters;
+	}
+	
+	private static long[] splitters(long[] sample, int buckets){
+		long[] splitters = new long[buckets + 1];
+		for(int k = 1; k < buckets; k++)
+			splitters[k] = sample[k * OVERSAMPLING];
+		splitters[buckets] = Long.MAX_VALUE;
+		return splitters;
+	}
+	
+	/**
+	 * Check if 2 neighbouring splitters are equal, which means some value is frequent.
+	 */
+	private static boolean hasRepeats(int[] splitters){
+		for(int k = 2; k < splitters.length - 1; k++){
+			if(splitters[k] == splitters[k - 1])
+				return true;
+		}
+		return false;
+	}
+	
+	private static boolean hasRepeats(long[] splitters){
+		for(int k = 2; k < splitters.length - 1; k++){
+			if(splitters[k] == splitters[k - 1])
+				return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * Return the slot of value in the distribution. Without equality buckets this is its bucket. With them,
+	 * bucket b becomes slot 2b, and values equal to the upper splitter of b go to slot 2b + 1.
+	 * A repeated splitter leaves the buckets between its copies empty, and all its copies land in one equality slot.
+	 */
+	private static int classify(int[] tree, int[] splitters, int buckets, boolean equality, int value){
+		int bucket = bucketOf(tree, buckets, value);
+		if(!equality)
+			return bucket;
+		return 2 * bucket + (value == splitters[bucket + 1] ? 1 : 0);
+	}
+	
+	private static int classify(long[] tree, long[] splitters, int buckets, boolean equality, long value){
+		int bucket = bucketOf(tree, buckets, value);
+		if(!equality)
+			return bucket;
+		return 2 * bucket + (value == splitters[bucket + 1] ? 1 : 0);
+	}
+	
+	/**
+	 * Return the bucket of value: walk down the splitter tree, going right when value is larger than the node.
+	 * Every lookup takes log2(buckets) steps and the step has no branch to mispredict.
+	 */
+	private static int bucketOf(int[] tree, int buckets, int value){
+		int node = 1;
+		while(node < buckets)
+			node = 2 * node + (value > tree[node] ? 1 : 0);
+		return node - buckets;
+	}
+	
+	private static int bucketOf(long[] tree, int buckets, long value){
+		int node = 1;
+		while(node < buckets)
+			node = 2 * node + (value > tree[node] ? 1 : 0);
+		return node - buckets;
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		
+		System.out.println("Sample Sort:");
+		SampleSort newSSort = new SampleSort(20);
+		newSSort.print();
+		newSSort.doSort();
+		newSSort.print();
+	}
+}
@@ -0,0 +1,236 @@
+package Sorting;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/** Selection algorithms: find the element of a given rank, or the k smallest elements, without a full sort.
+ *  select is a quick select: the random pivot 3-way partition of quick sort, but only the side holding the
+ *  wanted rank is kept, which is O(n) expected. If the random pivots keep giving bad splits it switches to
+ *  median of medians pivots, which are O(n) in the worst case.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class Selection {
+	/** Ranges with at most this many elements are sorted by a sorting network. */
+	private static final int SMALL_SORT_THRESHOLD = SortingNetworks.MAX_SIZE;
+	
+	private Selection(){
+	}
+	
+	/**
+	 * Return the element that would be at index k if the array was sorted (k = 0 is the minimum).
+	 * The array is rearranged so that array[k] holds it, elements before k are not larger and elements after k are not smaller.
+	 *
+	 * @param array the array
+	 * @param k the rank
+	 * @return the element of rank k
+	 */
+	public static int select(int[] array, int k){
+		return select(array, 0, array.length, k);
+	}
+	
+	/**
+	 * Same as select(array, k) on the range [fromIndex, toIndex), with fromIndex <= k < toIndex.
+	 *
+	 * @param array the array
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex the last index (exclusive)
+	 * @param k index in the range where the element of that rank goes
+	 * @return the element
+	 */
+	public static int select(int[] array, int fromIndex, int toIndex, int k){
+		if(fromIndex < 0 || toIndex > array.length || k < fromIndex || k >= toIndex)
+			throw new ArrayIndexOutOfBoundsException("k " + k + " not in [" + fromIndex + ", " + toIndex + ")");
+		return quickSelect(array, fromIndex, toIndex, k, false);
+	}
+	
+	/**
+	 * Rearrange the array so that its first k elements are the k smallest, in ascending order.
+	 * The order of the remaining elements is unspecified.
+	 *
+	 * @param array the array
+	 * @param k number of smallest elements to sort
+	 */
+	public static void partialSort(int[] array, int k){
+		if(k < 0 || k > array.length)
+			throw new IllegalArgumentException("k must be in [0, " + array.length + "]: " + k);
+		if(k == 0)
+			return;
+		if(k < array.length)
+			quickSelect(array, 0, array.length, k - 1, false);
+		QuickSort.quickSort(array, 0, k);
+	}
+	
+	/**
+	 * Return the k smallest values of a stream in ascending order, keeping only k values in memory.
+	 *
+	 * @param values the values
+	 * @param k number of values to keep
+	 * @return up to k smallest values, sorted
+	 */
+	public static int[] topK(IntStream values, int k){
+		return topK(values.iterator(), k);
+	}
+	
+	/**
+	 * Return the k smallest values of an iterator in ascending order, keeping only k values in memory.
+	 * A max heap holds the k smallest values seen so far, a new value replaces the root only if it is smaller.
+	 *
+	 * @param values the values
+	 * @param k number of values to keep
+	 * @return up to k smallest values, sorted
+	 */
+	public static int[] topK(PrimitiveIterator.OfInt values, int k){
+		if(k < 0)
+			throw new IllegalArgumentException("k must not be negative: " + k);
+		int[] heap = new int[Math.min(k, 1024)];
+		int size = 0;
+		while(values.hasNext()){
+			int value = values.nextInt();
+			if(size < k){
+				if(size == heap.length)
+					heap = Arrays.copyOf(heap, (int)Math.min(k, 2L * size));
+				heap[size] = value;
+				siftUp(heap, size++);
+			}
+			else if(k > 0 && value < heap[0]){
+				heap[0] = value;
+				siftDown(heap, size, 0);
+			}
+		}
+		int[] result = Arrays.copyOf(heap, size);
+		QuickSort.quickSort(result, 0, size);
+		return result;
+	}
+	
+	/**
+	 * Quick select on [low, high). A split is bad when the kept side has more than 3/4 of the elements,
+	 * after too many bad splits the pivots come from median of medians instead of random picks.
+	 *
+	 * @param array the array
+	 * @param low the first index (inclusive)
+	 * @param high the last index (exclusive)
+	 * @param k the index to fill
+	 * @param medianOfMedians true to use median of medians pivots from the start
+	 * @return the element at index k
+	 */
+	private static int quickSelect(int[] array, int low, int high, int k, boolean medianOfMedians){
+		int badSplitsLeft = 2 * (32 - Integer.numberOfLeadingZeros(high - low));
+		while(high - low > SMALL_SORT_THRESHOLD){
+			int pivot = medianOfMedians ? medianOfMedians(array, low, high) : array[low + ThreadLocalRandom.current().nextInt(high - low)];
+			
+			//3-way partition: [low, lessEnd) < pivot, [lessEnd, greaterStart) == pivot, [greaterStart, high) > pivot.
+			int lessEnd = low;
+			int greaterStart = high;
+			int i = low;
+			while(i < greaterStart){
+				int value = array[i];
+				if(value < pivot)
+					swap(array, lessEnd++, i++);
+				else if(value > pivot)
+					swap(array, i, --greaterStart);
+				else
+					i++;
+			}
+			
+			//Keep only the side that holds index k.
+			int size = high - low;
+			if(k < lessEnd)
+				high = lessEnd;
+			else if(k >= greaterStart)
+				low = greaterStart;
+			else
+				return pivot;
+			if(4 * (long)(high - low) > 3 * (long)size && --badSplitsLeft < 0)
+				medianOfMedians = true;
+		}
+		SortingNetworks.sortSmall(array, low, high - low);
+		return array[k];
+	}
+	
+	/**
+	 * Return the median of medians of [low, high): the median of each group of 5 is moved to the front,
+	 * then the median of those medians is selected recursively. It is larger and smaller than at least 3/10 of the range.
+	 *
+	 * @param array the array
+	 * @param low the first index (inclusive)
+	 * @param high the last index (exclusive)
+	 * @return the pivot value
+	 */
+	private static int medianOfMedians(int[] array, int low, int high){
+		int medianEnd = low;
+		for(int groupStart = low; groupStart < high; groupStart += 5){
+			int groupEnd = Math.min(groupStart + 5, high);
+			SortingNetworks.sortSmall(array, groupStart, groupEnd - groupStart);
+			swap(array, (groupStart + groupEnd - 1) >>> 1, medianEnd++);
+		}
+		int middle = (low + medianEnd - 1) >>> 1;
+		return quickSelect(array, low, medianEnd, middle, true);
+	}
+	
+	private static void swap(int[] array, int i, int j){
+		int tempValue = array[i];
+		array[i] = array[j];
+		array[j] = tempValue;
+	}
+	
+	/**
+	 * Up heap bubbling in a max heap.
+	 */
+	private static void siftUp(int[] heap, int nodeIndex){
+		int value = heap[nodeIndex];
+		while(nodeIndex > 0){
+			int parentIndex = (nodeIndex - 1) >>> 1;
+			if(heap[parentIndex] >= value)
+				break;
+			heap[nodeIndex] = heap[parentIndex];
+			nodeIndex = parentIndex;
+		}
+		heap[nodeIndex] = value;
+	}
+	
+	/**
+	 * Down heap bubbling in a max heap of the given size.
+	 */
+	private static void siftDown(int[] heap, int size, int nodeIndex){
+		int value = heap[nodeIndex];
+		int half = size >>> 1;
+		while(nodeIndex < half){
+			int child = 2 * nodeIndex + 1;
+			if(child + 1 < size && heap[child + 1] > heap[child])
+				child++;
+			if(value >= heap[child])
+				break;
+			heap[nodeIndex] = heap[child];
+			nodeIndex = child;
+		}
+		heap[nodeIndex] = value;
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		int[] array = {42, 7, 19, 3, 88, 25, 61, 7, 14, 50};
+		System.out.println("Median: " + select(array.clone(), array.length / 2));
+		
+		int[] partial = array.clone();
+		partialSort(partial, 4);
+		System.out.print("Partial sort, k = 4:");
+		for(int value : partial)
+			System.out.print(" " + value);
+		System.out.println();
+		
+		partial = array.clone();
+		partialSort(partial, partial.length);
+		int[] sorted = array.clone();
+		Arrays.sort(sorted);
+		System.out.println("Partial sort, k = n, fully sorted: " + Arrays.equals(partial, sorted));
+		
+		System.out.print("Top 3:");
+		for(int value : topK(Arrays.stream(array), 3))
+			System.out.print(" " + value);
+		System.out.println();
+	}
+}
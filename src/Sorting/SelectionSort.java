@@ -10,16 +10,22 @@ public class SelectionSort extends Sorting{
 		super(sizeOfArray);
 	}
 	
+	public SelectionSort(){
+		super();
+	}
+	
 	//Selection Sort implementation.
 	@Override
-	public void doSort(){
+	public void sort(int[] tempArray, int offset, int length){
+		checkRange(tempArray, offset, length);
 		int minNum;	
 		int minIndex;
-		int[] tempArray = this.getArray();
-		for(int i = 0; i < tempArray.length; i++){
+		int end = offset + length;
+		long moves = 0;
+		for(int i = offset; i < end; i++){
 			minNum = tempArray[i];	
 			minIndex = i;
-			for(int j = i + 1; j < tempArray.length; j++){
+			for(int j = i + 1; j < end; j++){
 				if(minNum > tempArray[j]){
 					minNum = tempArray[j];
 					minIndex = j;
@@ -31,11 +37,10 @@ public class SelectionSort extends Sorting{
 				int tempValue = tempArray[i];
 				tempArray[i] = minNum;
 				tempArray[minIndex] = tempValue;				
+				moves += 2;
 			}
-			
-			//Copy the sorted array to result array.
-			this.setArray(tempArray);
 		}
+		SortCounters.count((long)length * (length - 1) / 2, moves);
 	}
 	
 	/**TESTING*/
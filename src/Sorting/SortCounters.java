@@ -0,0 +1,150 @@
+package Sorting;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/** Per-thread counters behind SortStatistics.
+ *  Sorting kernels report their work through the static methods of this class. Every method tests ENABLED first,
+ *  which is a static final read once from the system property sorting.stats, so when it is false the JIT removes
+ *  the calls and the local counters feeding them. Work done by other threads (parallel sorts) is not counted.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+final class SortCounters {
+	/** Enable with -Dsorting.stats=true. */
+	static final boolean ENABLED = Boolean.getBoolean("sorting.stats");
+	
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+	private static final ThreadLocal<SortCounters> CURRENT = new ThreadLocal<SortCounters>(){
+		@Override
+		protected SortCounters initialValue(){
+			return new SortCounters();
+		}
+	};
+	
+	private long comparisons;
+	private long moves;
+	private int depth;
+	private int maxDepth;
+	private long partitionNanos;
+	private long mergeNanos;
+	private long startNanos;
+	private long startBytes;
+	private SortEvent event;
+	
+	private SortCounters(){
+	}
+	
+	/**
+	 * Add to the comparison and move counts of the current thread.
+	 */
+	static void count(long comparisons, long moves){
+		if(ENABLED){
+			SortCounters counters = CURRENT.get();
+			counters.comparisons += comparisons;
+			counters.moves += moves;
+		}
+	}
+	
+	/**
+	 * Enter one recursion level.
+	 */
+	static void enter(){
+		if(ENABLED){
+			SortCounters counters = CURRENT.get();
+			if(++counters.depth > counters.maxDepth)
+				counters.maxDepth = counters.depth;
+		}
+	}
+	
+	/**
+	 * Leave one recursion level.
+	 */
+	static void exit(){
+		if(ENABLED)
+			CURRENT.get().depth--;
+	}
+	
+	/**
+	 * Start timing a phase.
+	 *
+	 * @return the start time, 0 when disabled
+	 */
+	static long phaseStart(){
+		return ENABLED ? System.nanoTime() : 0;
+	}
+	
+	/**
+	 * Add the time since phaseStart to the partition phase.
+	 */
+	static void partitionEnd(long start){
+		if(ENABLED)
+			CURRENT.get().partitionNanos += System.nanoTime() - start;
+	}
+	
+	/**
+	 * Add the time since phaseStart to the merge phase.
+	 */
+	static void mergeEnd(long start){
+		if(ENABLED)
+			CURRENT.get().mergeNanos += System.nanoTime() - start;
+	}
+	
+	/**
+	 * Reset the counters of the current thread before a sort. Only call when ENABLED.
+	 *
+	 * @return the counters of the current thread
+	 */
+	static SortCounters begin(){
+		SortCounters counters = CURRENT.get();
+		counters.comparisons = 0;
+		counters.moves = 0;
+		counters.depth = 0;
+		counters.maxDepth = 0;
+		counters.partitionNanos = 0;
+		counters.mergeNanos = 0;
+		counters.event = new SortEvent();
+		counters.event.begin();
+		counters.startBytes = allocatedBytes();
+		counters.startNanos = System.nanoTime();
+		return counters;
+	}
+	
+	/**
+	 * Take a snapshot of the counters after a sort, and commit it as a JFR event if JFR records it.
+	 *
+	 * @param algorithm name of the algorithm
+	 * @param elements number of sorted elements
+	 * @return the snapshot
+	 */
+	SortStatistics end(String algorithm, int elements){
+		long totalNanos = System.nanoTime() - startNanos;
+		long bytes = allocatedBytes() - startBytes;
+		SortStatistics statistics = new SortStatistics(algorithm, elements, comparisons, moves, maxDepth,
+				bytes, partitionNanos, mergeNanos, totalNanos);
+		event.end();
+		if(event.shouldCommit()){
+			event.algorithm = algorithm;
+			event.elements = elements;
+			event.comparisons = comparisons;
+			event.moves = moves;
+			event.maxRecursionDepth = maxDepth;
+			event.bytesAllocated = bytes;
+			event.partitionNanos = partitionNanos;
+			event.mergeNanos = mergeNanos;
+			event.commit();
+		}
+		event = null;
+		return statistics;
+	}
+	
+	/**
+	 * Bytes allocated so far by the current thread, or 0 when the JVM cannot tell.
+	 */
+	private static long allocatedBytes(){
+		if(THREADS instanceof com.sun.management.ThreadMXBean)
+			return ((com.sun.management.ThreadMXBean)THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+		return 0;
+	}
+}
@@ -0,0 +1,145 @@
+package Sorting;
+
+/** Sorting entry point that picks the algorithm for the caller.
+ *  It samples the input into an InputProfile (runs, inversions, range, duplicates) and chooses from it:
+ *  a sorting network for tiny inputs, insertion sort or TimSort for presorted or reversed input, counting sort
+ *  for a small range, quick sort when there are many duplicates, and radix sort (sample sort on several cores)
+ *  for large random input. The last profile and choice are kept so the decisions can be audited.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class SortDispatcher extends Sorting{
+	/** Algorithms the dispatcher can choose. */
+	public enum Algorithm{
+		NETWORK, INSERTION_SORT, TIM_SORT, COUNTING_SORT, QUICK_SORT, RADIX_SORT, SAMPLE_SORT
+	}
+	
+	/** Presorted inputs up to this size are insertion sorted. */
+	private static final int INSERTION_SORT_LIMIT = 64;
+	/** Input is presorted when at most this share of sampled neighbours go the other way. */
+	private static final double PRESORTED_RATIO = 1.0 / 32;
+	/** Below this size the sample is too small to trust its range and duplicates, so the input is quick sorted. */
+	private static final int PROFILE_THRESHOLD = 1 << 8;
+	/** Input with at least this share of duplicates in the sample is quick sorted (3-way partition). */
+	private static final double DUPLICATE_RATIO = 0.5;
+	/** Random inputs from this size are radix sorted. */
+	private static final int RADIX_SORT_THRESHOLD = 1 << 10;
+	/** Random inputs from this size are sample sorted when more than one core is available. */
+	private static final int SAMPLE_SORT_THRESHOLD = 1 << 20;
+	
+	//Sorters with reusable buffers, created on first use.
+	private TimSort timSort;
+	private CountingSort countingSort;
+	private RadixSort radixSort;
+	private SampleSort sampleSort;
+	
+	private InputProfile lastProfile;
+	private Algorithm lastAlgorithm;
+	
+	public SortDispatcher(int sizeOfArray){
+		super(sizeOfArray);
+	}
+	
+	public SortDispatcher(){
+		super();
+	}
+	
+	//Sample the input, then sort with the chosen algorithm
+	@Override
+	public void sort(int[] array, int offset, int length){
+		InputProfile profile = InputProfile.of(array, offset, length);
+		Algorithm algorithm = choose(profile);
+		lastProfile = profile;
+		lastAlgorithm = algorithm;
+		switch(algorithm){
+		case NETWORK:
+			SortingNetworks.sortSmall(array, offset, length);
+			break;
+		case INSERTION_SORT:
+			InsertionSort.insertionSort(array, offset, offset + length);
+			break;
+		case TIM_SORT:
+			if(timSort == null)
+				timSort = new TimSort();
+			timSort.sort(array, offset, length);
+			break;
+		case COUNTING_SORT:
+			if(countingSort == null)
+				countingSort = new CountingSort();
+			countingSort.sort(array, offset, length);
+			break;
+		case RADIX_SORT:
+			if(radixSort == null)
+				radixSort = new RadixSort();
+			radixSort.sort(array, offset, length);
+			break;
+		case SAMPLE_SORT:
+			if(sampleSort == null)
+				sampleSort = new SampleSort();
+			sampleSort.sort(array, offset, length);
+			break;
+		default:
+			QuickSort.quickSort(array, offset, offset + length);
+		}
+	}
+	
+	/**
+	 * Choose the algorithm for an input profile.
+	 *
+	 * @param profile the profile
+	 * @return the algorithm
+	 */
+	public static Algorithm choose(InputProfile profile){
+		int length = profile.getLength();
+		if(length <= SortingNetworks.MAX_SIZE)
+			return Algorithm.NETWORK;
+		//Few descents: long ascending runs. Few ascents: long descending runs, which TimSort reverses.
+		boolean ascending = profile.getDescentRatio() <= PRESORTED_RATIO;
+		if(ascending && length <= INSERTION_SORT_LIMIT)
+			return Algorithm.INSERTION_SORT;
+		if(ascending || profile.getAscentRatio() <= PRESORTED_RATIO)
+			return Algorithm.TIM_SORT;
+		if(length < PROFILE_THRESHOLD)
+			return Algorithm.QUICK_SORT;
+		//CountingSort checks the real range and falls back to quick sort if the sample missed outliers.
+		if(CountingSort.useCounting(profile.getRange(), length))
+			return Algorithm.COUNTING_SORT;
+		if(profile.getDuplicateRatio() >= DUPLICATE_RATIO)
+			return Algorithm.QUICK_SORT;
+		if(length >= SAMPLE_SORT_THRESHOLD && Runtime.getRuntime().availableProcessors() > 1)
+			return Algorithm.SAMPLE_SORT;
+		if(length >= RADIX_SORT_THRESHOLD)
+			return Algorithm.RADIX_SORT;
+		return Algorithm.QUICK_SORT;
+	}
+	
+	/**
+	 * Return the profile of the input of the last sort.
+	 *
+	 * @return the profile, or null if nothing was sorted yet.
+	 */
+	public InputProfile getLastProfile(){
+		return lastProfile;
+	}
+	
+	/**
+	 * Return the algorithm used by the last sort.
+	 *
+	 * @return the algorithm, or null if nothing was sorted yet.
+	 */
+	public Algorithm getLastAlgorithm(){
+		return lastAlgorithm;
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		System.out.println("Sort Dispatcher:");
+		SortDispatcher newDispatcher = new SortDispatcher(20);
+		newDispatcher.print();
+		newDispatcher.doSort();
+		newDispatcher.print();
+		System.out.println(newDispatcher.getLastAlgorithm() + " " + newDispatcher.getLastProfile());
+	}
+}
@@ -0,0 +1,48 @@
+package Sorting;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/** JFR event committed for each doSort() call when sorting statistics are enabled,
+ *  so sort time can be lined up with input shape in a flight recording.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+@Name("Sorting.Sort")
+@Label("Sort")
+@Category("Sorting")
+@Description("One doSort() call with its comparison, move and phase counters")
+class SortEvent extends Event {
+	@Label("Algorithm")
+	String algorithm;
+	
+	@Label("Elements")
+	int elements;
+	
+	@Label("Comparisons")
+	long comparisons;
+	
+	@Label("Moves")
+	long moves;
+	
+	@Label("Max Recursion Depth")
+	int maxRecursionDepth;
+	
+	@Label("Bytes Allocated")
+	@DataAmount
+	long bytesAllocated;
+	
+	@Label("Partition Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long partitionNanos;
+	
+	@Label("Merge Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long mergeNanos;
+}
@@ -0,0 +1,85 @@
+package Sorting;
+
+/** Snapshot of the counters of one doSort() call. Only filled when sorting statistics are enabled
+ *  with -Dsorting.stats=true, see SortCounters.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public final class SortStatistics {
+	private final String algorithm;
+	private final int elements;
+	private final long comparisons;
+	private final long moves;
+	private final int maxRecursionDepth;
+	private final long bytesAllocated;
+	private final long partitionNanos;
+	private final long mergeNanos;
+	private final long totalNanos;
+	
+	SortStatistics(String algorithm, int elements, long comparisons, long moves, int maxRecursionDepth,
+			long bytesAllocated, long partitionNanos, long mergeNanos, long totalNanos){
+		this.algorithm = algorithm;
+		this.elements = elements;
+		this.comparisons = comparisons;
+		this.moves = moves;
+		this.maxRecursionDepth = maxRecursionDepth;
+		this.bytesAllocated = bytesAllocated;
+		this.partitionNanos = partitionNanos;
+		this.mergeNanos = mergeNanos;
+		this.totalNanos = totalNanos;
+	}
+	
+	/** @return simple class name of the algorithm */
+	public String getAlgorithm(){
+		return algorithm;
+	}
+	
+	/** @return number of sorted elements */
+	public int getElements(){
+		return elements;
+	}
+	
+	/** @return number of comparisons between elements */
+	public long getComparisons(){
+		return comparisons;
+	}
+	
+	/** @return number of element writes (a swap counts as 2) */
+	public long getMoves(){
+		return moves;
+	}
+	
+	/** @return deepest recursion level reached */
+	public int getMaxRecursionDepth(){
+		return maxRecursionDepth;
+	}
+	
+	/** @return bytes allocated on the heap by the sorting thread, 0 if the JVM cannot tell */
+	public long getBytesAllocated(){
+		return bytesAllocated;
+	}
+	
+	/** @return time spent partitioning, in nanoseconds */
+	public long getPartitionNanos(){
+		return partitionNanos;
+	}
+	
+	/** @return time spent merging, in nanoseconds */
+	public long getMergeNanos(){
+		return mergeNanos;
+	}
+	
+	/** @return wall time of the whole sort, in nanoseconds */
+	public long getTotalNanos(){
+		return totalNanos;
+	}
+	
+	@Override
+	public String toString(){
+		return algorithm + " n=" + elements + " comparisons=" + comparisons + " moves=" + moves
+				+ " maxDepth=" + maxRecursionDepth + " allocated=" + bytesAllocated + "B"
+				+ " partition=" + partitionNanos / 1000 + "us merge=" + mergeNanos / 1000 + "us total=" + totalNanos / 1000 + "us";
+	}
+}
@@ -0,0 +1,525 @@
+package Sorting;
+
+/** Set operations on sorted int[] and long[]: union, intersection, difference and unique.
+ *  The inputs are sorted prefixes array[0, length) and the results are written to a buffer owned by the caller,
+ *  so nothing is allocated. The two-list operations walk both inputs like MergeSort.doMerge. When one input is
+ *  more than GALLOP_RATIO times longer than the other, they walk the short one instead and gallop (exponential
+ *  search) in the long one, which is O(m log(n / m)) instead of O(n + m).
+ *  Inputs without repeats give results without repeats. With repeats, a value is kept as many times as its
+ *  larger count (union), smaller count (intersection) or the difference of its counts (difference).
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class SortedSets {
+	/** Gallop in the longer input when it is more than this many times longer than the other. */
+	private static final int GALLOP_RATIO = 32;
+	
+	private SortedSets(){
+	}
+	/**
+	 * Union of the sorted prefixes a[0, aLength) and b[0, bLength), written to out from index 0.
+	 * A value present in both is written once (as many times as its larger count when the inputs hold repeats).
+	 *
+	 * @param a the first sorted array
+	 * @param aLength number of elements of a to use
+	 * @param b the second sorted array
+	 * @param bLength number of elements of b to use
+	 * @param out the output, with room for aLength + bLength elements
+	 * @return number of elements written
+	 */
+	public static int union(int[] a, int aLength, int[] b, int bLength, int[] out){
+		checkRange(a, aLength);
+		checkRange(b, bLength);
+		checkOutput(out, (long)aLength + bLength);
+		if(aLength > GALLOP_RATIO * (long)bLength)
+			return unionGallop(a, aLength, b, bLength, out);
+		if(bLength > GALLOP_RATIO * (long)aLength)
+			return unionGallop(b, bLength, a, aLength, out);
+		int indexFirstList = 0;
+		int indexSecondList = 0;
+		int indexOfResult = 0;
+		
+		//Same loop as MergeSort.doMerge, except that equal values are written once.
+		while(indexFirstList < aLength && indexSecondList < bLength){
+			int firstListValue = a[indexFirstList];
+			int secondListValue = b[indexSecondList];
+			if(firstListValue < secondListValue){
+				out[indexOfResult++] = firstListValue;
+				indexFirstList++;
+			}
+			else if(firstListValue > secondListValue){
+				out[indexOfResult++] = secondListValue;
+				indexSecondList++;
+			}
+			else
+			{
+				out[indexOfResult++] = firstListValue;
+				indexFirstList++;
+				indexSecondList++;
+			}
+		}
+		//Copy the remaining element to result list
+		System.arraycopy(a, indexFirstList, out, indexOfResult, aLength - indexFirstList);
+		indexOfResult += aLength - indexFirstList;
+		System.arraycopy(b, indexSecondList, out, indexOfResult, bLength - indexSecondList);
+		return indexOfResult + bLength - indexSecondList;
+	}
+	
+	/**
+	 * Union when small is much shorter than large: find where each value of small goes in large by galloping
+	 * and copy the elements of large in between as one block.
+	 */
+	private static int unionGallop(int[] large, int largeLength, int[] small, int smallLength, int[] out){
+		int indexLarge = 0;
+		int indexOfResult = 0;
+		for(int indexSmall = 0; indexSmall < smallLength; indexSmall++){
+			int value = small[indexSmall];
+			int next = gallop(large, indexLarge, largeLength, value);
+			System.arraycopy(large, indexLarge, out, indexOfResult, next - indexLarge);
+			indexOfResult += next - indexLarge;
+			out[indexOfResult++] = value;
+			if(next < largeLength && large[next] == value)
+				next++;
+			indexLarge = next;
+		}
+		System.arraycopy(large, indexLarge, out, indexOfResult, largeLength - indexLarge);
+		return indexOfResult + largeLength - indexLarge;
+	}
+	
+	/**
+	 * Intersection of the sorted prefixes a[0, aLength) and b[0, bLength), written to out from index 0.
+	 * out may be a or b.
+	 *
+	 * @param a the first sorted array
+	 * @param aLength number of elements of a to use
+	 * @param b the second sorted array
+	 * @param bLength number of elements of b to use
+	 * @param out the output, with room for min(aLength, bLength) elements
+	 * @return number of elements written
+	 */
+	public static int intersection(int[] a, int aLength, int[] b, int bLength, int[] out){
+		checkRange(a, aLength);
+		checkRange(b, bLength);
+		checkOutput(out, Math.min(aLength, bLength));
+		if(aLength > GALLOP_RATIO * (long)bLength)
+			return intersectionGallop(a, aLength, b, bLength, out);
+		if(bLength > GALLOP_RATIO * (long)aLength)
+			return intersectionGallop(b, bLength, a, aLength, out);
+		int indexFirstList = 0;
+		int indexSecondList = 0;
+		int indexOfResult = 0;
+		while(indexFirstList < aLength && indexSecondList < bLength){
+			int firstListValue = a[indexFirstList];
+			int secondListValue = b[indexSecondList];
+			if(firstListValue < secondListValue)
+				indexFirstList++;
+			else if(firstListValue > secondListValue)
+				indexSecondList++;
+			else
+			{
+				out[indexOfResult++] = firstListValue;
+				indexFirstList++;
+				indexSecondList++;
+			}
+		}
+		return indexOfResult;
+	}
+	
+	/**
+	 * Intersection when small is much shorter than large: gallop in large for each value of small.
+	 */
+	private static int intersectionGallop(int[] large, int largeLength, int[] small, int smallLength, int[] out){
+		int indexLarge = 0;
+		int indexOfResult = 0;
+		for(int indexSmall = 0; indexSmall < smallLength && indexLarge < largeLength; indexSmall++){
+			int value = small[indexSmall];
+			indexLarge = gallop(large, indexLarge, largeLength, value);
+			if(indexLarge < largeLength && large[indexLarge] == value){
+				out[indexOfResult++] = value;
+				indexLarge++;
+			}
+		}
+		return indexOfResult;
+	}
+	
+	/**
+	 * Difference a - b of the sorted prefixes a[0, aLength) and b[0, bLength), written to out from index 0.
+	 * out may be a.
+	 *
+	 * @param a the sorted array to take elements from
+	 * @param aLength number of elements of a to use
+	 * @param b the sorted array of elements to remove
+	 * @param bLength number of elements of b to use
+	 * @param out the output, with room for aLength elements
+	 * @return number of elements written
+	 */
+	public static int difference(int[] a, int aLength, int[] b, int bLength, int[] out){
+		checkRange(a, aLength);
+		checkRange(b, bLength);
+		checkOutput(out, aLength);
+		int indexFirstList = 0;
+		int indexSecondList = 0;
+		int indexOfResult = 0;
+		if(aLength > GALLOP_RATIO * (long)bLength){
+			//Few values to remove: gallop to each of them and copy the blocks of a in between.
+			for(; indexSecondList < bLength && indexFirstList < aLength; indexSecondList++){
+				int value = b[indexSecondList];
+				int next = gallop(a, indexFirstList, aLength, value);
+				System.arraycopy(a, indexFirstList, out, indexOfResult, next - indexFirstList);
+				indexOfResult += next - indexFirstList;
+				if(next < aLength && a[next] == value)
+					next++;
+				indexFirstList = next;
+			}
+		}
+		else if(bLength > GALLOP_RATIO * (long)aLength){
+			//Few values to keep or drop: gallop in b for each of them.
+			for(; indexFirstList < aLength; indexFirstList++){
+				int value = a[indexFirstList];
+				indexSecondList = gallop(b, indexSecondList, bLength, value);
+				if(indexSecondList < bLength && b[indexSecondList] == value)
+					indexSecondList++;
+				else
+					out[indexOfResult++] = value;
+			}
+		}
+		else
+		{
+			while(indexFirstList < aLength && indexSecondList < bLength){
+				int firstListValue = a[indexFirstList];
+				int secondListValue = b[indexSecondList];
+				if(firstListValue < secondListValue){
+					out[indexOfResult++] = firstListValue;
+					indexFirstList++;
+				}
+				else if(firstListValue > secondListValue)
+					indexSecondList++;
+				else
+				{
+					indexFirstList++;
+					indexSecondList++;
+				}
+			}
+		}
+		System.arraycopy(a, indexFirstList, out, indexOfResult, aLength - indexFirstList);
+		return indexOfResult + aLength - indexFirstList;
+	}
+	
+	/**
+	 * Remove repeated values from the sorted prefix array[0, length) in place, keeping the first of each.
+	 *
+	 * @param array the sorted array
+	 * @param length number of elements to use
+	 * @return the new length: array[0, newLength) holds each value once
+	 */
+	public static int unique(int[] array, int length){
+		checkRange(array, length);
+		if(length == 0)
+			return 0;
+		int indexOfResult = 1;
+		for(int i = 1; i < length; i++){
+			if(array[i] != array[indexOfResult - 1])
+				array[indexOfResult++] = array[i];
+		}
+		return indexOfResult;
+	}
+	
+	/**
+	 * Return the first index in [from, to) of a sorted range whose value is not less than key.
+	 * Probe from, from + 1, from + 3, from + 7... then binary search the last step, so the cost is
+	 * O(log d) where d is the distance to the answer instead of O(log(to - from)).
+	 */
+	private static int gallop(int[] array, int from, int to, int key){
+		if(from >= to || array[from] >= key)
+			return from;
+		//array[low] < key is kept true.
+		int low = from;
+		int step = 1;
+		while(step < to - low && array[low + step] < key){
+			low += step;
+			step <<= 1;
+		}
+		return MergeSort.lowerBound(array, low + 1, step < to - low ? low + step : to, key);
+	}
+	
+	private static void checkRange(int[] array, int length){
+		if(length < 0 || length > array.length)
+			throw new ArrayIndexOutOfBoundsException("length " + length + ", array length " + array.length);
+	}
+	
+	private static void checkOutput(int[] out, long length){
+		if(out.length < length)
+			throw new IllegalArgumentException("output has " + out.length + " elements, " + length + " needed");
+	}
+	
+	/**
+	 * Union of the sorted prefixes a[0, aLength) and b[0, bLength), written to out from index 0.
+	 * A value present in both is written once (as many times as its larger count when the inputs hold repeats).
+	 *
+	 * @param a the first sorted array
+	 * @param aLength number of elements of a to use
+	 * @param b the second sorted array
+	 * @param bLength number of elements of b to use
+	 * @param out the output, with room for aLength + bLength elements
+	 * @return number of elements written
+	 */
+	public static int union(long[] a, int aLength, long[] b, int bLength, long[] out){
+		checkRange(a, aLength);
+		checkRange(b, bLength);
+		checkOutput(out, (long)aLength + bLength);
+		if(aLength > GALLOP_RATIO * (long)bLength)
+			return unionGallop(a, aLength, b, bLength, out);
+		if(bLength > GALLOP_RATIO * (long)aLength)
+			return unionGallop(b, bLength, a, aLength, out);
+		int indexFirstList = 0;
+		int indexSecondList = 0;
+		int indexOfResult = 0;
+		
+		//Same loop as MergeSort.doMerge, except that equal values are written once.
+		while(indexFirstList < aLength && indexSecondList < bLength){
+			long firstListValue = a[indexFirstList];
+			long secondListValue = b[indexSecondList];
+			if(firstListValue < secondListValue){
+				out[indexOfResult++] = firstListValue;
+				indexFirstList++;
+			}
+			else if(firstListValue > secondListValue){
+				out[indexOfResult++] = secondListValue;
+				indexSecondList++;
+			}
+			else
+			{
+				out[indexOfResult++] = firstListValue;
+				indexFirstList++;
+				indexSecondList++;
+			}
+		}
+		//Copy the remaining element to result list
+		System.arraycopy(a, indexFirstList, out, indexOfResult, aLength - indexFirstList);
+		indexOfResult += aLength - indexFirstList;
+		System.arraycopy(b, indexSecondList, out, indexOfResult, bLength - indexSecondList);
+		return indexOfResult + bLength - indexSecondList;
+	}
+	
+	/**
+	 * Union when small is much shorter than large: find where each value of small goes in large by galloping
+	 * and copy the elements of large in between as one block.
+	 */
+	private static int unionGallop(long[] large, int largeLength, long[] small, int smallLength, long[] out){
+		int indexLarge = 0;
+		int indexOfResult = 0;
+		for(int indexSmall = 0; indexSmall < smallLength; indexSmall++){
+			long value = small[indexSmall];
+			int next = gallop(large, indexLarge, largeLength, value);
+			System.arraycopy(large, indexLarge, out, indexOfResult, next - indexLarge);
+			indexOfResult += next - indexLarge;
+			out[indexOfResult++] = value;
+			if(next < largeLength && large[next] == value)
+				next++;
+			indexLarge = next;
+		}
+		System.arraycopy(large, indexLarge, out, indexOfResult, largeLength - indexLarge);
+		return indexOfResult + largeLength - indexLarge;
+	}
+	
+	/**
+	 * Intersection of the sorted prefixes a[0, aLength) and b[0, bLength), written to out from index 0.
+	 * out may be a or b.
+	 *
+	 * @param a the first sorted array
+	 * @param aLength number of elements of a to use
+	 * @param b the second sorted array
+	 * @param bLength number of elements of b to use
+	 * @param out the output, with room for min(aLength, bLength) elements
+	 * @return number of elements written
+	 */
+	public static int intersection(long[] a, int aLength, long[] b, int bLength, long[] out){
+		checkRange(a, aLength);
+		checkRange(b, bLength);
+		checkOutput(out, Math.min(aLength, bLength));
+		if(aLength > GALLOP_RATIO * (long)bLength)
+			return intersectionGallop(a, aLength, b, bLength, out);
+		if(bLength > GALLOP_RATIO * (long)aLength)
+			return intersectionGallop(b, bLength, a, aLength, out);
+		int indexFirstList = 0;
+		int indexSecondList = 0;
+		int indexOfResult = 0;
+		while(indexFirstList < aLength && indexSecondList < bLength){
+			long firstListValue = a[indexFirstList];
+			long secondListValue = b[indexSecondList];
+			if(firstListValue < secondListValue)
+				indexFirstList++;
+			else if(firstListValue > secondListValue)
+				indexSecondList++;
+			else
+			{
+				out[indexOfResult++] = firstListValue;
+				indexFirstList++;
+				indexSecondList++;
+			}
+		}
+		return indexOfResult;
+	}
+	
+	/**
+	 * Intersection when small is much shorter than large: gallop in large for each value of small.
+	 */
+	private static int intersectionGallop(long[] large, int largeLength, long[] small, int smallLength, long[] out){
+		int indexLarge = 0;
+		int indexOfResult = 0;
+		for(int indexSmall = 0; indexSmall < smallLength && indexLarge < largeLength; indexSmall++){
+			long value = small[indexSmall];
+			indexLarge = gallop(large, indexLarge, largeLength, value);
+			if(indexLarge < largeLength && large[indexLarge] == value){
+				out[indexOfResult++] = value;
+				indexLarge++;
+			}
+		}
+		return indexOfResult;
+	}
+	
+	/**
+	 * Difference a - b of the sorted prefixes a[0, aLength) and b[0, bLength), written to out from index 0.
+	 * out may be a.
+	 *
+	 * @param a the sorted array to take elements from
+	 * @param aLength number of elements of a to use
+	 * @param b the sorted array of elements to remove
+	 * @param bLength number of elements of b to use
+	 * @param out the output, with room for aLength elements
+	 * @return number of elements written
+	 */
+	public static int difference(long[] a, int aLength, long[] b, int bLength, long[] out){
+		checkRange(a, aLength);
+		checkRange(b, bLength);
+		checkOutput(out, aLength);
+		int indexFirstList = 0;
+		int indexSecondList = 0;
+		int indexOfResult = 0;
+		if(aLength > GALLOP_RATIO * (long)bLength){
+			//Few values to remove: gallop to each of them and copy the blocks of a in between.
+			for(; indexSecondList < bLength && indexFirstList < aLength; indexSecondList++){
+				long value = b[indexSecondList];
+				int next = gallop(a, indexFirstList, aLength, value);
+				System.arraycopy(a, indexFirstList, out, indexOfResult, next - indexFirstList);
+				indexOfResult += next - indexFirstList;
+				if(next < aLength && a[next] == value)
+					next++;
+				indexFirstList = next;
+			}
+		}
+		else if(bLength > GALLOP_RATIO * (long)aLength){
+			//Few values to keep or drop: gallop in b for each of them.
+			for(; indexFirstList < aLength; indexFirstList++){
+				long value = a[indexFirstList];
+				indexSecondList = gallop(b, indexSecondList, bLength, value);
+				if(indexSecondList < bLength && b[indexSecondList] == value)
+					indexSecondList++;
+				else
+					out[indexOfResult++] = value;
+			}
+		}
+		else
+		{
+			while(indexFirstList < aLength && indexSecondList < bLength){
+				long firstListValue = a[indexFirstList];
+				long secondListValue = b[indexSecondList];
+				if(firstListValue < secondListValue){
+					out[indexOfResult++] = firstListValue;
+					indexFirstList++;
+				}
+				else if(firstListValue > secondListValue)
+					indexSecondList++;
+				else
+				{
+					indexFirstList++;
+					indexSecondList++;
+				}
+			}
+		}
+		System.arraycopy(a, indexFirstList, out, indexOfResult, aLength - indexFirstList);
+		return indexOfResult + aLength - indexFirstList;
+	}
+	
+	/**
+	 * Remove repeated values from the sorted prefix array[0, length) in place, keeping the first of each.
+	 *
+	 * @param array the sorted array
+	 * @param length number of elements to use
+	 * @return the new length: array[0, newLength) holds each value once
+	 */
+	public static int unique(long[] array, int length){
+		checkRange(array, length);
+		if(length == 0)
+			return 0;
+		int indexOfResult = 1;
+		for(int i = 1; i < length; i++){
+			if(array[i] != array[indexOfResult - 1])
+				array[indexOfResult++] = array[i];
+		}
+		return indexOfResult;
+	}
+	
+	/**
+	 * Return the first index in [from, to) of a sorted range whose value is not less than key.
+	 * Probe from, from + 1, from + 3, from + 7... then binary search the last step, so the cost is
+	 * O(log d) where d is the distance to the answer instead of O(log(to - from)).
+	 */
+	private static int gallop(long[] array, int from, int to, long key){
+		if(from >= to || array[from] >= key)
+			return from;
+		//array[low] < key is kept true.
+		int low = from;
+		int step = 1;
+		while(step < to - low && array[low + step] < key){
+			low += step;
+			step <<= 1;
+		}
+		return lowerBound(array, low + 1, step < to - low ? low + step : to, key);
+	}
+	
+	private static void checkRange(long[] array, int length){
+		if(length < 0 || length > array.length)
+			throw new ArrayIndexOutOfBoundsException("length " + length + ", array length " + array.length);
+	}
+	
+	private static void checkOutput(long[] out, long length){
+		if(out.length < length)
+			throw new IllegalArgumentException("output has " + out.length + " elements, " + length + " needed");
+	}
+	
+	/**
+	 * Return the first index in [start, end) of a sorted range whose value is not less than key.
+	 */
+	private static int lowerBound(long[] array, int start, int end, long key){
+		while(start < end){
+			int middle = (start + end) >>> 1;
+			if(array[middle] < key)
+				start = middle + 1;
+			else
+				end = middle;
+		}
+		return start;
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		int[] a = {1, 3, 5, 7, 9, 11};
+		int[] b = {3, 4, 5, 6, 11, 12};
+		int[] out = new int[a.length + b.length];
+		System.out.println("Union: " + toString(out, union(a, a.length, b, b.length, out)));
+		System.out.println("Intersection: " + toString(out, intersection(a, a.length, b, b.length, out)));
+		System.out.println("Difference: " + toString(out, difference(a, a.length, b, b.length, out)));
+		int[] repeats = {1, 1, 2, 3, 3, 3, 4};
+		System.out.println("Unique: " + toString(repeats, unique(repeats, repeats.length)));
+	}
+	
+	private static String toString(int[] array, int length){
+		StringBuilder line = new StringBuilder();
+		for(int i = 0; i < length; i++)
+			line.append(array[i]).append(' ');
+		return line.toString();
+	}
+}
@@ -2,6 +2,7 @@ package Sorting;
 import java.util.ArrayList;
 
 /** This abstract class will create a random int[] with chosen size for us to sort.
+ *  It can also sort a caller-owned int[] (or a slice of it) in place, with no size limit.
  *  
  * @author Ryan Huynh
  * @version Dec 2014
@@ -11,6 +12,7 @@ public abstract class Sorting {
 	private final int MAX_ARRAY_SIZE = 50;
 	private int[] defaultArray;
 	private int[] sortedArray;
+	private SortStatistics statistics;
 	
 	/**
 	 * Instantiates default array that has random number from 0 to MAX_ARRAY_SIZE.
@@ -30,6 +32,14 @@ public abstract class Sorting {
 		sortedArray = defaultArray;
 	}
 	
+	/**
+	 * Instantiates a sorter with no default array. Use sort(int[]) to sort caller's data.
+	 */
+	public Sorting(){
+		defaultArray = new int[0];
+		sortedArray = defaultArray;
+	}
+	
 	/**SOME UTILITY FUNCTIONS*/
 	
 	/**
@@ -60,11 +70,61 @@ public abstract class Sorting {
 		}
 	}
 	
+	/**
+	 * Check that offset and length describe a valid slice of the array.
+	 *
+	 * @param array the array
+	 * @param offset index of the first element of the slice
+	 * @param length number of elements in the slice
+	 */
+	protected static void checkRange(int[] array, int offset, int length){
+		if(offset < 0 || length < 0 || offset > array.length - length)
+			throw new ArrayIndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + array.length);
+	}
+	
+	/**
+	 * Sort the default array.
+	 * With -Dsorting.stats=true the work of this call is also recorded, see getStatistics().
+	 */
+	public void doSort(){
+		int[] tempArray = this.getArray();
+		if(SortCounters.ENABLED){
+			SortCounters counters = SortCounters.begin();
+			sort(tempArray, 0, tempArray.length);
+			statistics = counters.end(getClass().getSimpleName(), tempArray.length);
+		}
+		else
+			sort(tempArray, 0, tempArray.length);
+		this.setArray(tempArray);
+	}
+	
+	/**
+	 * Return the counters of the last doSort() call.
+	 *
+	 * @return the statistics, or null if statistics are disabled or doSort() was not called yet.
+	 */
+	public SortStatistics getStatistics(){
+		return statistics;
+	}
+	
+	/**
+	 * Sort the whole input array in place.
+	 *
+	 * @param array the array to sort.
+	 */
+	public void sort(int[] array){
+		sort(array, 0, array.length);
+	}
+	
 	//Each algorithm will implement this differently
 	/**
-	 * Sort the array. Each algorithm will implement this differently.
+	 * Sort length elements of the array starting at offset, in place. The array is not copied.
+	 *
+	 * @param array the array to sort.
+	 * @param offset index of the first element to sort.
+	 * @param length number of elements to sort.
 	 */
-	public abstract void doSort();
+	public abstract void sort(int[] array, int offset, int length);
 	
 	/**
 	 * Prints the array .For testing purposes.
@@ -0,0 +1,800 @@
+package Sorting;
+
+/** Sorting networks for 2 to 16 elements, used as the leaf case of the recursive sorts.
+ *  Each size has its own method: the elements are loaded into locals, a fixed list of compare-exchange steps
+ *  is applied, and the result is stored back. A compare-exchange is a Math.min / Math.max pair, which the JIT
+ *  turns into conditional moves, so unlike the insertion sort loop there is no branch that depends on the data.
+ *  The networks use the smallest known number of comparators for each size (optimal up to 12 elements),
+ *  checked on all 0/1 inputs (0-1 principle).
+ *  The Vector API is not used: jdk.incubator.vector is still an incubator module, so every build and every run
+ *  would need --add-modules jdk.incubator.vector, and the networks are too small to gain much from lanes.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public final class SortingNetworks {
+	/** Largest size with a network. */
+	public static final int MAX_SIZE = 16;
+	
+	/** Number of comparators of the network for each size. */
+	private static final int[] COMPARATORS = {0, 0, 1, 3, 5, 9, 12, 16, 19, 25, 29, 35, 39, 45, 51, 56, 60};
+	
+	private SortingNetworks(){
+	}
+	
+	/**
+	 * Sort length elements of the array starting at offset, with length at most MAX_SIZE.
+	 *
+	 * @param array the array
+	 * @param offset index of the first element
+	 * @param length number of elements, from 0 to MAX_SIZE
+	 */
+	public static void sort(int[] array, int offset, int length){
+		if(offset < 0 || length < 0 || offset > array.length - length)
+			throw new ArrayIndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + array.length);
+		if(length > MAX_SIZE)
+			throw new IllegalArgumentException("length must be at most " + MAX_SIZE + ": " + length);
+		sortSmall(array, offset, length);
+	}
+	
+	/**
+	 * Sort length elements starting at offset, without checking the arguments.
+	 */
+	static void sortSmall(int[] array, int offset, int length){
+		switch(length){
+		case 2: sort2(array, offset); break;
+		case 3: sort3(array, offset); break;
+		case 4: sort4(array, offset); break;
+		case 5: sort5(array, offset); break;
+		case 6: sort6(array, offset); break;
+		case 7: sort7(array, offset); break;
+		case 8: sort8(array, offset); break;
+		case 9: sort9(array, offset); break;
+		case 10: sort10(array, offset); break;
+		case 11: sort11(array, offset); break;
+		case 12: sort12(array, offset); break;
+		case 13: sort13(array, offset); break;
+		case 14: sort14(array, offset); break;
+		case 15: sort15(array, offset); break;
+		case 16: sort16(array, offset); break;
+		default: return;
+		}
+		SortCounters.count(COMPARATORS[length], 2L * COMPARATORS[length]);
+	}
+	
+	private static void sort2(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+	}
+	
+	private static void sort3(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+	}
+	
+	private static void sort4(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+	}
+	
+	private static void sort5(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int t;
+		t = Math.min(v0, v3); v3 = Math.max(v0, v3); v0 = t;
+		t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+	}
+	
+	private static void sort6(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int t;
+		t = Math.min(v0, v5); v5 = Math.max(v0, v5); v0 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v0, v3); v3 = Math.max(v0, v3); v0 = t;
+		t = Math.min(v2, v5); v5 = Math.max(v2, v5); v2 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+	}
+	
+	private static void sort7(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int t;
+		t = Math.min(v0, v6); v6 = Math.max(v0, v6); v0 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+		t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v5); v5 = Math.max(v2, v5); v2 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+	}
+	
+	private static void sort8(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int v7 = array[offset + 7];
+		int t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+		t = Math.min(v0, v4); v4 = Math.max(v0, v4); v0 = t;
+		t = Math.min(v1, v5); v5 = Math.max(v1, v5); v1 = t;
+		t = Math.min(v2, v6); v6 = Math.max(v2, v6); v2 = t;
+		t = Math.min(v3, v7); v7 = Math.max(v3, v7); v3 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+		t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+		t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+		array[offset + 7] = v7;
+	}
+	
+	private static void sort9(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int v7 = array[offset + 7];
+		int v8 = array[offset + 8];
+		int t;
+		t = Math.min(v0, v3); v3 = Math.max(v0, v3); v0 = t;
+		t = Math.min(v1, v7); v7 = Math.max(v1, v7); v1 = t;
+		t = Math.min(v2, v5); v5 = Math.max(v2, v5); v2 = t;
+		t = Math.min(v4, v8); v8 = Math.max(v4, v8); v4 = t;
+		t = Math.min(v0, v7); v7 = Math.max(v0, v7); v0 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v3, v8); v8 = Math.max(v3, v8); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+		t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+		t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+		t = Math.min(v6, v8); v8 = Math.max(v6, v8); v6 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+		array[offset + 7] = v7;
+		array[offset + 8] = v8;
+	}
+	
+	private static void sort10(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int v7 = array[offset + 7];
+		int v8 = array[offset + 8];
+		int v9 = array[offset + 9];
+		int t;
+		t = Math.min(v0, v8); v8 = Math.max(v0, v8); v0 = t;
+		t = Math.min(v1, v9); v9 = Math.max(v1, v9); v1 = t;
+		t = Math.min(v2, v7); v7 = Math.max(v2, v7); v2 = t;
+		t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+		t = Math.min(v5, v8); v8 = Math.max(v5, v8); v5 = t;
+		t = Math.min(v7, v9); v9 = Math.max(v7, v9); v7 = t;
+		t = Math.min(v0, v3); v3 = Math.max(v0, v3); v0 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+		t = Math.min(v6, v9); v9 = Math.max(v6, v9); v6 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+		t = Math.min(v8, v9); v9 = Math.max(v8, v9); v8 = t;
+		t = Math.min(v1, v5); v5 = Math.max(v1, v5); v1 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v8); v8 = Math.max(v4, v8); v4 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+		array[offset + 7] = v7;
+		array[offset + 8] = v8;
+		array[offset + 9] = v9;
+	}
+	
+	private static void sort11(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int v7 = array[offset + 7];
+		int v8 = array[offset + 8];
+		int v9 = array[offset + 9];
+		int v10 = array[offset + 10];
+		int t;
+		t = Math.min(v0, v9); v9 = Math.max(v0, v9); v0 = t;
+		t = Math.min(v1, v6); v6 = Math.max(v1, v6); v1 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v3, v7); v7 = Math.max(v3, v7); v3 = t;
+		t = Math.min(v5, v8); v8 = Math.max(v5, v8); v5 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+		t = Math.min(v4, v10); v10 = Math.max(v4, v10); v4 = t;
+		t = Math.min(v6, v9); v9 = Math.max(v6, v9); v6 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v2, v5); v5 = Math.max(v2, v5); v2 = t;
+		t = Math.min(v4, v7); v7 = Math.max(v4, v7); v4 = t;
+		t = Math.min(v8, v10); v10 = Math.max(v8, v10); v8 = t;
+		t = Math.min(v0, v4); v4 = Math.max(v0, v4); v0 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v7); v7 = Math.max(v3, v7); v3 = t;
+		t = Math.min(v5, v9); v9 = Math.max(v5, v9); v5 = t;
+		t = Math.min(v6, v8); v8 = Math.max(v6, v8); v6 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v6); v6 = Math.max(v2, v6); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+		t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+		t = Math.min(v8, v9); v9 = Math.max(v8, v9); v8 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+		array[offset + 7] = v7;
+		array[offset + 8] = v8;
+		array[offset + 9] = v9;
+		array[offset + 10] = v10;
+	}
+	
+	private static void sort12(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int v7 = array[offset + 7];
+		int v8 = array[offset + 8];
+		int v9 = array[offset + 9];
+		int v10 = array[offset + 10];
+		int v11 = array[offset + 11];
+		int t;
+		t = Math.min(v0, v8); v8 = Math.max(v0, v8); v0 = t;
+		t = Math.min(v1, v7); v7 = Math.max(v1, v7); v1 = t;
+		t = Math.min(v2, v6); v6 = Math.max(v2, v6); v2 = t;
+		t = Math.min(v3, v11); v11 = Math.max(v3, v11); v3 = t;
+		t = Math.min(v4, v10); v10 = Math.max(v4, v10); v4 = t;
+		t = Math.min(v5, v9); v9 = Math.max(v5, v9); v5 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v5); v5 = Math.max(v2, v5); v2 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v6, v9); v9 = Math.max(v6, v9); v6 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v10, v11); v11 = Math.max(v10, v11); v10 = t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v6); v6 = Math.max(v1, v6); v1 = t;
+		t = Math.min(v5, v10); v10 = Math.max(v5, v10); v5 = t;
+		t = Math.min(v9, v11); v11 = Math.max(v9, v11); v9 = t;
+		t = Math.min(v0, v3); v3 = Math.max(v0, v3); v0 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+		t = Math.min(v8, v11); v11 = Math.max(v8, v11); v8 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+		t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+		t = Math.min(v6, v8); v8 = Math.max(v6, v8); v6 = t;
+		t = Math.min(v7, v10); v10 = Math.max(v7, v10); v7 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v2, v5); v5 = Math.max(v2, v5); v2 = t;
+		t = Math.min(v6, v9); v9 = Math.max(v6, v9); v6 = t;
+		t = Math.min(v8, v10); v10 = Math.max(v8, v10); v8 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v8, v9); v9 = Math.max(v8, v9); v8 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+		array[offset + 7] = v7;
+		array[offset + 8] = v8;
+		array[offset + 9] = v9;
+		array[offset + 10] = v10;
+		array[offset + 11] = v11;
+	}
+	
+	private static void sort13(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int v7 = array[offset + 7];
+		int v8 = array[offset + 8];
+		int v9 = array[offset + 9];
+		int v10 = array[offset + 10];
+		int v11 = array[offset + 11];
+		int v12 = array[offset + 12];
+		int t;
+		t = Math.min(v0, v12); v12 = Math.max(v0, v12); v0 = t;
+		t = Math.min(v1, v10); v10 = Math.max(v1, v10); v1 = t;
+		t = Math.min(v2, v9); v9 = Math.max(v2, v9); v2 = t;
+		t = Math.min(v3, v7); v7 = Math.max(v3, v7); v3 = t;
+		t = Math.min(v5, v11); v11 = Math.max(v5, v11); v5 = t;
+		t = Math.min(v6, v8); v8 = Math.max(v6, v8); v6 = t;
+		t = Math.min(v1, v6); v6 = Math.max(v1, v6); v1 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v11); v11 = Math.max(v4, v11); v4 = t;
+		t = Math.min(v7, v9); v9 = Math.max(v7, v9); v7 = t;
+		t = Math.min(v8, v10); v10 = Math.max(v8, v10); v8 = t;
+		t = Math.min(v0, v4); v4 = Math.max(v0, v4); v0 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v11, v12); v12 = Math.max(v11, v12); v11 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v5, v9); v9 = Math.max(v5, v9); v5 = t;
+		t = Math.min(v8, v11); v11 = Math.max(v8, v11); v8 = t;
+		t = Math.min(v10, v12); v12 = Math.max(v10, v12); v10 = t;
+		t = Math.min(v0, v5); v5 = Math.max(v0, v5); v0 = t;
+		t = Math.min(v3, v8); v8 = Math.max(v3, v8); v3 = t;
+		t = Math.min(v4, v7); v7 = Math.max(v4, v7); v4 = t;
+		t = Math.min(v6, v11); v11 = Math.max(v6, v11); v6 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v5); v5 = Math.max(v2, v5); v2 = t;
+		t = Math.min(v6, v9); v9 = Math.max(v6, v9); v6 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v10, v11); v11 = Math.max(v10, v11); v10 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+		t = Math.min(v6, v8); v8 = Math.max(v6, v8); v6 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v8, v9); v9 = Math.max(v8, v9); v8 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+		array[offset + 7] = v7;
+		array[offset + 8] = v8;
+		array[offset + 9] = v9;
+		array[offset + 10] = v10;
+		array[offset + 11] = v11;
+		array[offset + 12] = v12;
+	}
+	
+	private static void sort14(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int v7 = array[offset + 7];
+		int v8 = array[offset + 8];
+		int v9 = array[offset + 9];
+		int v10 = array[offset + 10];
+		int v11 = array[offset + 11];
+		int v12 = array[offset + 12];
+		int v13 = array[offset + 13];
+		int t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v8, v9); v9 = Math.max(v8, v9); v8 = t;
+		t = Math.min(v10, v11); v11 = Math.max(v10, v11); v10 = t;
+		t = Math.min(v12, v13); v13 = Math.max(v12, v13); v12 = t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v4, v8); v8 = Math.max(v4, v8); v4 = t;
+		t = Math.min(v5, v9); v9 = Math.max(v5, v9); v5 = t;
+		t = Math.min(v10, v12); v12 = Math.max(v10, v12); v10 = t;
+		t = Math.min(v11, v13); v13 = Math.max(v11, v13); v11 = t;
+		t = Math.min(v0, v4); v4 = Math.max(v0, v4); v0 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v7); v7 = Math.max(v3, v7); v3 = t;
+		t = Math.min(v5, v8); v8 = Math.max(v5, v8); v5 = t;
+		t = Math.min(v6, v10); v10 = Math.max(v6, v10); v6 = t;
+		t = Math.min(v9, v13); v13 = Math.max(v9, v13); v9 = t;
+		t = Math.min(v11, v12); v12 = Math.max(v11, v12); v11 = t;
+		t = Math.min(v0, v6); v6 = Math.max(v0, v6); v0 = t;
+		t = Math.min(v1, v5); v5 = Math.max(v1, v5); v1 = t;
+		t = Math.min(v3, v9); v9 = Math.max(v3, v9); v3 = t;
+		t = Math.min(v4, v10); v10 = Math.max(v4, v10); v4 = t;
+		t = Math.min(v7, v13); v13 = Math.max(v7, v13); v7 = t;
+		t = Math.min(v8, v12); v12 = Math.max(v8, v12); v8 = t;
+		t = Math.min(v2, v10); v10 = Math.max(v2, v10); v2 = t;
+		t = Math.min(v3, v11); v11 = Math.max(v3, v11); v3 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v7, v9); v9 = Math.max(v7, v9); v7 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v2, v8); v8 = Math.max(v2, v8); v2 = t;
+		t = Math.min(v5, v11); v11 = Math.max(v5, v11); v5 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v10, v12); v12 = Math.max(v10, v12); v10 = t;
+		t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+		t = Math.min(v2, v6); v6 = Math.max(v2, v6); v2 = t;
+		t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+		t = Math.min(v7, v11); v11 = Math.max(v7, v11); v7 = t;
+		t = Math.min(v8, v10); v10 = Math.max(v8, v10); v8 = t;
+		t = Math.min(v9, v12); v12 = Math.max(v9, v12); v9 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+		t = Math.min(v5, v8); v8 = Math.max(v5, v8); v5 = t;
+		t = Math.min(v7, v10); v10 = Math.max(v7, v10); v7 = t;
+		t = Math.min(v9, v11); v11 = Math.max(v9, v11); v9 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+		array[offset + 7] = v7;
+		array[offset + 8] = v8;
+		array[offset + 9] = v9;
+		array[offset + 10] = v10;
+		array[offset + 11] = v11;
+		array[offset + 12] = v12;
+		array[offset + 13] = v13;
+	}
+	
+	private static void sort15(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int v7 = array[offset + 7];
+		int v8 = array[offset + 8];
+		int v9 = array[offset + 9];
+		int v10 = array[offset + 10];
+		int v11 = array[offset + 11];
+		int v12 = array[offset + 12];
+		int v13 = array[offset + 13];
+		int v14 = array[offset + 14];
+		int t;
+		t = Math.min(v0, v13); v13 = Math.max(v0, v13); v0 = t;
+		t = Math.min(v1, v12); v12 = Math.max(v1, v12); v1 = t;
+		t = Math.min(v3, v14); v14 = Math.max(v3, v14); v3 = t;
+		t = Math.min(v4, v8); v8 = Math.max(v4, v8); v4 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		t = Math.min(v7, v11); v11 = Math.max(v7, v11); v7 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v0, v5); v5 = Math.max(v0, v5); v0 = t;
+		t = Math.min(v1, v7); v7 = Math.max(v1, v7); v1 = t;
+		t = Math.min(v2, v9); v9 = Math.max(v2, v9); v2 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v6, v13); v13 = Math.max(v6, v13); v6 = t;
+		t = Math.min(v8, v14); v14 = Math.max(v8, v14); v8 = t;
+		t = Math.min(v11, v12); v12 = Math.max(v11, v12); v11 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v6, v8); v8 = Math.max(v6, v8); v6 = t;
+		t = Math.min(v7, v9); v9 = Math.max(v7, v9); v7 = t;
+		t = Math.min(v10, v11); v11 = Math.max(v10, v11); v10 = t;
+		t = Math.min(v12, v13); v13 = Math.max(v12, v13); v12 = t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v4, v10); v10 = Math.max(v4, v10); v4 = t;
+		t = Math.min(v5, v11); v11 = Math.max(v5, v11); v5 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v8, v9); v9 = Math.max(v8, v9); v8 = t;
+		t = Math.min(v12, v14); v14 = Math.max(v12, v14); v12 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v12); v12 = Math.max(v3, v12); v3 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+		t = Math.min(v8, v10); v10 = Math.max(v8, v10); v8 = t;
+		t = Math.min(v9, v11); v11 = Math.max(v9, v11); v9 = t;
+		t = Math.min(v13, v14); v14 = Math.max(v13, v14); v13 = t;
+		t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+		t = Math.min(v2, v6); v6 = Math.max(v2, v6); v2 = t;
+		t = Math.min(v5, v8); v8 = Math.max(v5, v8); v5 = t;
+		t = Math.min(v7, v10); v10 = Math.max(v7, v10); v7 = t;
+		t = Math.min(v9, v13); v13 = Math.max(v9, v13); v9 = t;
+		t = Math.min(v11, v14); v14 = Math.max(v11, v14); v11 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+		t = Math.min(v9, v12); v12 = Math.max(v9, v12); v9 = t;
+		t = Math.min(v11, v13); v13 = Math.max(v11, v13); v11 = t;
+		t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+		t = Math.min(v6, v8); v8 = Math.max(v6, v8); v6 = t;
+		t = Math.min(v7, v9); v9 = Math.max(v7, v9); v7 = t;
+		t = Math.min(v10, v12); v12 = Math.max(v10, v12); v10 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v11, v12); v12 = Math.max(v11, v12); v11 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v8, v9); v9 = Math.max(v8, v9); v8 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+		array[offset + 7] = v7;
+		array[offset + 8] = v8;
+		array[offset + 9] = v9;
+		array[offset + 10] = v10;
+		array[offset + 11] = v11;
+		array[offset + 12] = v12;
+		array[offset + 13] = v13;
+		array[offset + 14] = v14;
+	}
+	
+	private static void sort16(int[] array, int offset){
+		int v0 = array[offset];
+		int v1 = array[offset + 1];
+		int v2 = array[offset + 2];
+		int v3 = array[offset + 3];
+		int v4 = array[offset + 4];
+		int v5 = array[offset + 5];
+		int v6 = array[offset + 6];
+		int v7 = array[offset + 7];
+		int v8 = array[offset + 8];
+		int v9 = array[offset + 9];
+		int v10 = array[offset + 10];
+		int v11 = array[offset + 11];
+		int v12 = array[offset + 12];
+		int v13 = array[offset + 13];
+		int v14 = array[offset + 14];
+		int v15 = array[offset + 15];
+		int t;
+		t = Math.min(v0, v13); v13 = Math.max(v0, v13); v0 = t;
+		t = Math.min(v1, v12); v12 = Math.max(v1, v12); v1 = t;
+		t = Math.min(v2, v15); v15 = Math.max(v2, v15); v2 = t;
+		t = Math.min(v3, v14); v14 = Math.max(v3, v14); v3 = t;
+		t = Math.min(v4, v8); v8 = Math.max(v4, v8); v4 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		t = Math.min(v7, v11); v11 = Math.max(v7, v11); v7 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v0, v5); v5 = Math.max(v0, v5); v0 = t;
+		t = Math.min(v1, v7); v7 = Math.max(v1, v7); v1 = t;
+		t = Math.min(v2, v9); v9 = Math.max(v2, v9); v2 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v6, v13); v13 = Math.max(v6, v13); v6 = t;
+		t = Math.min(v8, v14); v14 = Math.max(v8, v14); v8 = t;
+		t = Math.min(v10, v15); v15 = Math.max(v10, v15); v10 = t;
+		t = Math.min(v11, v12); v12 = Math.max(v11, v12); v11 = t;
+		t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+		t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+		t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+		t = Math.min(v6, v8); v8 = Math.max(v6, v8); v6 = t;
+		t = Math.min(v7, v9); v9 = Math.max(v7, v9); v7 = t;
+		t = Math.min(v10, v11); v11 = Math.max(v10, v11); v10 = t;
+		t = Math.min(v12, v13); v13 = Math.max(v12, v13); v12 = t;
+		t = Math.min(v14, v15); v15 = Math.max(v14, v15); v14 = t;
+		t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+		t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+		t = Math.min(v4, v10); v10 = Math.max(v4, v10); v4 = t;
+		t = Math.min(v5, v11); v11 = Math.max(v5, v11); v5 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v8, v9); v9 = Math.max(v8, v9); v8 = t;
+		t = Math.min(v12, v14); v14 = Math.max(v12, v14); v12 = t;
+		t = Math.min(v13, v15); v15 = Math.max(v13, v15); v13 = t;
+		t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+		t = Math.min(v3, v12); v12 = Math.max(v3, v12); v3 = t;
+		t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+		t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+		t = Math.min(v8, v10); v10 = Math.max(v8, v10); v8 = t;
+		t = Math.min(v9, v11); v11 = Math.max(v9, v11); v9 = t;
+		t = Math.min(v13, v14); v14 = Math.max(v13, v14); v13 = t;
+		t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+		t = Math.min(v2, v6); v6 = Math.max(v2, v6); v2 = t;
+		t = Math.min(v5, v8); v8 = Math.max(v5, v8); v5 = t;
+		t = Math.min(v7, v10); v10 = Math.max(v7, v10); v7 = t;
+		t = Math.min(v9, v13); v13 = Math.max(v9, v13); v9 = t;
+		t = Math.min(v11, v14); v14 = Math.max(v11, v14); v11 = t;
+		t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+		t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+		t = Math.min(v9, v12); v12 = Math.max(v9, v12); v9 = t;
+		t = Math.min(v11, v13); v13 = Math.max(v11, v13); v11 = t;
+		t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+		t = Math.min(v6, v8); v8 = Math.max(v6, v8); v6 = t;
+		t = Math.min(v7, v9); v9 = Math.max(v7, v9); v7 = t;
+		t = Math.min(v10, v12); v12 = Math.max(v10, v12); v10 = t;
+		t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+		t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+		t = Math.min(v7, v8); v8 = Math.max(v7, v8); v7 = t;
+		t = Math.min(v9, v10); v10 = Math.max(v9, v10); v9 = t;
+		t = Math.min(v11, v12); v12 = Math.max(v11, v12); v11 = t;
+		t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+		t = Math.min(v8, v9); v9 = Math.max(v8, v9); v8 = t;
+		array[offset] = v0;
+		array[offset + 1] = v1;
+		array[offset + 2] = v2;
+		array[offset + 3] = v3;
+		array[offset + 4] = v4;
+		array[offset + 5] = v5;
+		array[offset + 6] = v6;
+		array[offset + 7] = v7;
+		array[offset + 8] = v8;
+		array[offset + 9] = v9;
+		array[offset + 10] = v10;
+		array[offset + 11] = v11;
+		array[offset + 12] = v12;
+		array[offset + 13] = v13;
+		array[offset + 14] = v14;
+		array[offset + 15] = v15;
+	}
+}
@@ -0,0 +1,528 @@
+package Sorting;
+
+/** Adaptive merge sort implementation (TimSort style) for partially sorted input.
+ *  The array is cut into natural runs: ascending runs are kept and strictly descending runs are reversed.
+ *  Runs shorter than minRun are extended with binary insertion sort. Runs are pushed on a stack and merged
+ *  while keeping their lengths balanced, and the merge switches to galloping (exponential search) when one run
+ *  keeps winning. Presorted input is sorted in close to linear time, and the sort is stable.
+ *
+ * @author Ryan Huynh
+ * @version Oct 2026
+ *
+ */
+public class TimSort extends Sorting{
+	/** Arrays shorter than this are sorted by binary insertion sort only. */
+	private static final int MIN_MERGE = 32;
+	/** Number of consecutive wins of one run before the merge starts galloping. */
+	private static final int MIN_GALLOP = 7;
+	/** Enough room for the run stack of any int-indexed array. */
+	private static final int MAX_STACK_SIZE = 49;
+	
+	private int[] array;
+	private int minGallop = MIN_GALLOP;
+	//Scratch buffer reused across calls on this instance. It only grows.
+	private int[] tmp = new int[0];
+	//Stack of pending runs: runBase[i] is the first index and runLen[i] the length of run i.
+	private final int[] runBase = new int[MAX_STACK_SIZE];
+	private final int[] runLen = new int[MAX_STACK_SIZE];
+	private int stackSize;
+	
+	public TimSort(int sizeOfArray){
+		super(sizeOfArray);
+	}
+	
+	public TimSort(){
+		super();
+	}
+	
+	//Implement TimSort
+	@Override
+	public void sort(int[] array, int offset, int length){
+		checkRange(array, offset, length);
+		if(length < 2)
+			return;
+		int low = offset;
+		int high = offset + length;
+		
+		//Short arrays: one run plus binary insertion sort, no merging.
+		if(length < MIN_MERGE){
+			int initRunLength = countRunAndMakeAscending(array, low, high);
+			InsertionSort.binaryInsertionSort(array, low, low + initRunLength, high);
+			return;
+		}
+		
+		this.array = array;
+		this.minGallop = MIN_GALLOP;
+		this.stackSize = 0;
+		try{
+			int minRun = minRunLength(length);
+			int remaining = length;
+			do{
+				//Find the next run, extend it to minRun elements if it is too short.
+				int runLength = countRunAndMakeAscending(array, low, high);
+				if(runLength < minRun){
+					int force = Math.min(remaining, minRun);
+					InsertionSort.binaryInsertionSort(array, low, low + runLength, low + force);
+					runLength = force;
+				}
+				
+				pushRun(low, runLength);
+				mergeCollapse();
+				low += runLength;
+				remaining -= runLength;
+			}
+			while(remaining != 0);
+			mergeForceCollapse();
+		}
+		finally{
+			this.array = null;
+		}
+	}
+	
+	/**
+	 * Return the length of the run starting at low, and reverse it if it is strictly descending.
+	 * Only strictly descending runs are reversed so equal elements keep their order.
+	 *
+	 * @param array the array
+	 * @param low the first index of the run
+	 * @param high the last index (exclusive) the run can reach
+	 * @return the run length
+	 */
+	private static int countRunAndMakeAscending(int[] array, int low, int high){
+		int runHigh = low + 1;
+		if(runHigh == high)
+			return 1;
+		if(array[runHigh++] < array[low]){
+			while(runHigh < high && array[runHigh] < array[runHigh - 1])
+				runHigh++;
+			reverseRange(array, low, runHigh);
+		}
+		else
+		{
+			while(runHigh < high && array[runHigh] >= array[runHigh - 1])
+				runHigh++;
+		}
+		return runHigh - low;
+	}
+	
+	/**
+	 * Reverse the range [low, high) of the array.
+	 */
+	private static void reverseRange(int[] array, int low, int high){
+		high--;
+		while(low < high){
+			int tempValue = array[low];
+			array[low++] = array[high];
+			array[high--] = tempValue;
+		}
+	}
+	
+	/**
+	 * Return the minimum run length for an array of length n: a value in [MIN_MERGE / 2, MIN_MERGE] such that
+	 * n / minRun is a power of 2 or slightly less, so the final merges are balanced.
+	 *
+	 * @param n the array length
+	 * @return the minimum run length
+	 */
+	private static int minRunLength(int n){
+		int r = 0;
+		while(n >= MIN_MERGE){
+			r |= (n & 1);
+			n >>= 1;
+		}
+		return n + r;
+	}
+	
+	/**
+	 * Push a run on the run stack.
+	 */
+	private void pushRun(int base, int length){
+		runBase[stackSize] = base;
+		runLen[stackSize] = length;
+		stackSize++;
+	}
+	
+	/**
+	 * Merge runs on top of the stack until the lengths satisfy, for the top runs X, Y, Z, W (top last):
+	 * len(X) > len(Y) + len(Z), len(W) > len(X) + len(Y) and len(Y) > len(Z).
+	 * This keeps the stack small and the merges balanced.
+	 */
+	private void mergeCollapse(){
+		while(stackSize > 1){
+			int n = stackSize - 2;
+			if(n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1] || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]){
+				if(runLen[n - 1] < runLen[n + 1])
+					n--;
+			}
+			else if(runLen[n] > runLen[n + 1]){
+				break;
+			}
+			long mergeStart = SortCounters.phaseStart();
+			mergeAt(n);
+			SortCounters.mergeEnd(mergeStart);
+		}
+	}
+	
+	/**
+	 * Merge all runs on the stack into one.
+	 */
+	private void mergeForceCollapse(){
+		while(stackSize > 1){
+			int n = stackSize - 2;
+			if(n > 0 && runLen[n - 1] < runLen[n + 1])
+				n--;
+			long mergeStart = SortCounters.phaseStart();
+			mergeAt(n);
+			SortCounters.mergeEnd(mergeStart);
+		}
+	}
+	
+	/**
+	 * Merge run i and run i + 1 of the stack.
+	 * Elements of run 1 that are already before run 2, and elements of run 2 that are already after run 1,
+	 * are found by galloping and left in place.
+	 *
+	 * @param i stack index of the first run
+	 */
+	private void mergeAt(int i){
+		int base1 = runBase[i];
+		int len1 = runLen[i];
+		int base2 = runBase[i + 1];
+		int len2 = runLen[i + 1];
+		
+		runLen[i] = len1 + len2;
+		if(i == stackSize - 3){
+			runBase[i + 1] = runBase[i + 2];
+			runLen[i + 1] = runLen[i + 2];
+		}
+		stackSize--;
+		
+		int k = gallopRight(array[base2], array, base1, len1, 0);
+		base1 += k;
+		len1 -= k;
+		if(len1 == 0)
+			return;
+		len2 = gallopLeft(array[base1 + len1 - 1], array, base2, len2, len2 - 1);
+		if(len2 == 0)
+			return;
+		
+		//Copy the shorter run to the buffer.
+		SortCounters.count(0, len1 + len2);
+		if(len1 <= len2)
+			mergeLow(base1, len1, base2, len2);
+		else
+			mergeHigh(base1, len1, base2, len2);
+	}
+	
+	/**
+	 * Return the position to insert key in the sorted range [base, base + length) before any equal element,
+	 * searching exponentially from base + hint then by binary search.
+	 *
+	 * @return k in [0, length] such that range[k - 1] < key <= range[k]
+	 */
+	private static int gallopLeft(int key, int[] range, int base, int length, int hint){
+		int lastOffset = 0;
+		int offset = 1;
+		if(key > range[base + hint]){
+			int maxOffset = length - hint;
+			while(offset < maxOffset && key > range[base + hint + offset]){
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if(offset <= 0)
+					offset = maxOffset;
+			}
+			if(offset > maxOffset)
+				offset = maxOffset;
+			lastOffset += hint;
+			offset += hint;
+		}
+		else
+		{
+			int maxOffset = hint + 1;
+			while(offset < maxOffset && key <= range[base + hint - offset]){
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if(offset <= 0)
+					offset = maxOffset;
+			}
+			if(offset > maxOffset)
+				offset = maxOffset;
+			int tempOffset = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - tempOffset;
+		}
+		
+		//range[base + lastOffset] < key <= range[base + offset], binary search in between.
+		lastOffset++;
+		while(lastOffset < offset){
+			int middle = lastOffset + ((offset - lastOffset) >>> 1);
+			if(key > range[base + middle])
+				lastOffset = middle + 1;
+			else
+				offset = middle;
+		}
+		return offset;
+	}
+	
+	/**
+	 * Like gallopLeft, but return the position after any equal element.
+	 *
+	 * @return k in [0, length] such that range[k - 1] <= key < range[k]
+	 */
+	private static int gallopRight(int key, int[] range, int base, int length, int hint){
+		int lastOffset = 0;
+		int offset = 1;
+		if(key < range[base + hint]){
+			int maxOffset = hint + 1;
+			while(offset < maxOffset && key < range[base + hint - offset]){
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if(offset <= 0)
+					offset = maxOffset;
+			}
+			if(offset > maxOffset)
+				offset = maxOffset;
+			int tempOffset = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - tempOffset;
+		}
+		else
+		{
+			int maxOffset = length - hint;
+			while(offset < maxOffset && key >= range[base + hint + offset]){
+				lastOffset = offset;
+				offset = (offset << 1) + 1;
+				if(offset <= 0)
+					offset = maxOffset;
+			}
+			if(offset > maxOffset)
+				offset = maxOffset;
+			lastOffset += hint;
+			offset += hint;
+		}
+		
+		//range[base + lastOffset] <= key < range[base + offset], binary search in between.
+		lastOffset++;
+		while(lastOffset < offset){
+			int middle = lastOffset + ((offset - lastOffset) >>> 1);
+			if(key < range[base + middle])
+				offset = middle;
+			else
+				lastOffset = middle + 1;
+		}
+		return offset;
+	}
+	
+	/**
+	 * Merge 2 adjacent runs from left to right, with run 1 copied to the buffer.
+	 * The first element of run 2 is smaller than every element of run 1, and the last element of run 1
+	 * is larger than every element of run 2 (mergeAt trimmed both runs).
+	 */
+	private void mergeLow(int base1, int len1, int base2, int len2){
+		int[] a = array;
+		int[] buffer = getBuffer(len1);
+		System.arraycopy(a, base1, buffer, 0, len1);
+		int cursor1 = 0;
+		int cursor2 = base2;
+		int dest = base1;
+		
+		a[dest++] = a[cursor2++];
+		if(--len2 == 0){
+			System.arraycopy(buffer, cursor1, a, dest, len1);
+			return;
+		}
+		if(len1 == 1){
+			System.arraycopy(a, cursor2, a, dest, len2);
+			a[dest + len2] = buffer[cursor1];
+			return;
+		}
+		
+		int gallop = this.minGallop;
+		outer:
+		while(true){
+			//Count how many times in a row each run wins.
+			int count1 = 0;
+			int count2 = 0;
+			
+			//Plain one-by-one merge, like MergeSort.doMerge, until one run wins gallop times in a row.
+			do{
+				if(a[cursor2] < buffer[cursor1]){
+					a[dest++] = a[cursor2++];
+					count2++;
+					count1 = 0;
+					if(--len2 == 0)
+						break outer;
+				}
+				else
+				{
+					a[dest++] = buffer[cursor1++];
+					count1++;
+					count2 = 0;
+					if(--len1 == 1)
+						break outer;
+				}
+			}
+			while((count1 | count2) < gallop);
+			
+			//Galloping: copy whole blocks found by exponential search, until it stops paying off.
+			do{
+				count1 = gallopRight(a[cursor2], buffer, cursor1, len1, 0);
+				if(count1 != 0){
+					System.arraycopy(buffer, cursor1, a, dest, count1);
+					dest += count1;
+					cursor1 += count1;
+					len1 -= count1;
+					if(len1 <= 1)
+						break outer;
+				}
+				a[dest++] = a[cursor2++];
+				if(--len2 == 0)
+					break outer;
+				
+				count2 = gallopLeft(buffer[cursor1], a, cursor2, len2, 0);
+				if(count2 != 0){
+					System.arraycopy(a, cursor2, a, dest, count2);
+					dest += count2;
+					cursor2 += count2;
+					len2 -= count2;
+					if(len2 == 0)
+						break outer;
+				}
+				a[dest++] = buffer[cursor1++];
+				if(--len1 == 1)
+					break outer;
+				gallop--;
+			}
+			while(count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+			if(gallop < 0)
+				gallop = 0;
+			//Make it harder to enter galloping mode again.
+			gallop += 2;
+		}
+		this.minGallop = gallop < 1 ? 1 : gallop;
+		
+		if(len1 == 1){
+			System.arraycopy(a, cursor2, a, dest, len2);
+			a[dest + len2] = buffer[cursor1];
+		}
+		else
+		{
+			System.arraycopy(buffer, cursor1, a, dest, len1);
+		}
+	}
+	
+	/**
+	 * Merge 2 adjacent runs from right to left, with run 2 copied to the buffer. Mirror of mergeLow.
+	 */
+	private void mergeHigh(int base1, int len1, int base2, int len2){
+		int[] a = array;
+		int[] buffer = getBuffer(len2);
+		System.arraycopy(a, base2, buffer, 0, len2);
+		int cursor1 = base1 + len1 - 1;
+		int cursor2 = len2 - 1;
+		int dest = base2 + len2 - 1;
+		
+		a[dest--] = a[cursor1--];
+		if(--len1 == 0){
+			System.arraycopy(buffer, 0, a, dest - (len2 - 1), len2);
+			return;
+		}
+		if(len2 == 1){
+			dest -= len1;
+			cursor1 -= len1;
+			System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+			a[dest] = buffer[cursor2];
+			return;
+		}
+		
+		int gallop = this.minGallop;
+		outer:
+		while(true){
+			int count1 = 0;
+			int count2 = 0;
+			
+			do{
+				if(buffer[cursor2] < a[cursor1]){
+					a[dest--] = a[cursor1--];
+					count1++;
+					count2 = 0;
+					if(--len1 == 0)
+						break outer;
+				}
+				else
+				{
+					a[dest--] = buffer[cursor2--];
+					count2++;
+					count1 = 0;
+					if(--len2 == 1)
+						break outer;
+				}
+			}
+			while((count1 | count2) < gallop);
+			
+			do{
+				count1 = len1 - gallopRight(buffer[cursor2], a, base1, len1, len1 - 1);
+				if(count1 != 0){
+					dest -= count1;
+					cursor1 -= count1;
+					len1 -= count1;
+					System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+					if(len1 == 0)
+						break outer;
+				}
+				a[dest--] = buffer[cursor2--];
+				if(--len2 == 1)
+					break outer;
+				
+				count2 = len2 - gallopLeft(a[cursor1], buffer, 0, len2, len2 - 1);
+				if(count2 != 0){
+					dest -= count2;
+					cursor2 -= count2;
+					len2 -= count2;
+					System.arraycopy(buffer, cursor2 + 1, a, dest + 1, count2);
+					if(len2 <= 1)
+						break outer;
+				}
+				a[dest--] = a[cursor1--];
+				if(--len1 == 0)
+					break outer;
+				gallop--;
+			}
+			while(count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+			if(gallop < 0)
+				gallop = 0;
+			gallop += 2;
+		}
+		this.minGallop = gallop < 1 ? 1 : gallop;
+		
+		if(len2 == 1){
+			dest -= len1;
+			cursor1 -= len1;
+			System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+			a[dest] = buffer[cursor2];
+		}
+		else
+		{
+			System.arraycopy(buffer, 0, a, dest - (len2 - 1), len2);
+		}
+	}
+	
+	/**
+	 * Return the scratch buffer, grown to hold at least length elements.
+	 */
+	private int[] getBuffer(int length){
+		if(tmp.length < length)
+			tmp = new int[Math.max(length, Math.min(array.length >>> 1, 2 * tmp.length))];
+		return tmp;
+	}
+	
+	/**TESTING*/
+	public static void main(String[] args){
+		
+		System.out.println("TimSort:");
+		TimSort newTSort = new TimSort(40);
+		newTSort.print();
+		newTSort.doSort();
+		newTSort.print();
+	}
+}